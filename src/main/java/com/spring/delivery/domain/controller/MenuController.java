@@ -5,15 +5,16 @@ import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
 import com.spring.delivery.domain.controller.dto.order.MenuResponseDto;
 import com.spring.delivery.domain.service.MenuService;
+import com.spring.delivery.domain.service.cache.MenuCatalogCache;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
 import java.util.UUID;
 
 
@@ -67,20 +68,20 @@ public class MenuController {
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
-    // 메뉴 단건(상세) 조회
+    // 메뉴 단건(상세) 조회 (캐시된 JSON 을 그대로 반환, If-None-Match 가 ETag 와 같으면 304)
     @GetMapping("/{menuId}")
-    public ResponseEntity<ApiResponseDto<MenuResponseDto>> getMenuDetail(
+    public ResponseEntity<byte[]> getMenuDetail(
             @PathVariable UUID menuId
     ) {
 
-        ApiResponseDto<MenuResponseDto> responseDto = menuService.getMenuDetail(menuId);
+        MenuCatalogCache.Payload payload = menuService.getMenuDetailPayload(menuId);
 
-        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+        return toResponse(payload);
     }
 
-    // 모든 메뉴 리스트
+    // 모든 메뉴 리스트 (캐시된 JSON 을 그대로 반환, If-None-Match 가 ETag 와 같으면 304)
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getMenus(
+    public ResponseEntity<byte[]> getMenus(
             @RequestParam UUID store_id,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "30") int size,
@@ -88,9 +89,19 @@ public class MenuController {
             @RequestParam(defaultValue = "desc") String order
     ) {
 
-        ApiResponseDto<Map<String, Object>> responseDto = menuService.getMenusByStore(store_id, page, size, sort, order);
+        MenuCatalogCache.Payload payload = menuService.getMenusByStorePayload(store_id, page, size, sort, order);
 
-        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+        return toResponse(payload);
+    }
+
+    // 200 응답에는 ETag 를 붙여 반환 (조건부 요청 비교와 304 응답은 Spring MVC 가 처리)
+    private ResponseEntity<byte[]> toResponse(MenuCatalogCache.Payload payload) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(payload.status())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (payload.status() == 200) {
+            builder.eTag(payload.etag());
+        }
+        return builder.body(payload.body());
     }
 
 
@@ -1,7 +1,9 @@
 package com.spring.delivery.domain.controller;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
-import com.spring.delivery.domain.controller.dto.order.OrderMenuResponseDto;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderPageResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
 import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
 import com.spring.delivery.domain.service.OrderService;
@@ -12,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Log4j2
@@ -69,16 +70,16 @@ public class OrderController {
 
     // 주문조회 api (단품)
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponseDto<OrderMenuResponseDto>> getOrder(
+    public ResponseEntity<ApiResponseDto<OrderHistoryResponseDto>> getOrder(
             @PathVariable UUID id
     ){
-        ApiResponseDto<OrderMenuResponseDto> orderResponseDto = orderService.getOrder(id);
+        ApiResponseDto<OrderHistoryResponseDto> orderResponseDto = orderService.getOrder(id);
         return ResponseEntity.ok(orderResponseDto);
     }
 
     // 주문 검색기능
     @GetMapping("/")
-    public ResponseEntity<ApiResponseDto<List<OrderMenuResponseDto>>> getOrders(
+    public ResponseEntity<ApiResponseDto<OrderPageResponseDto>> getOrders(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam Long userId,
             @RequestParam String orderStatus,
@@ -87,8 +88,23 @@ public class OrderController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "30") int size
     ){
-        ApiResponseDto<List<OrderMenuResponseDto>> responseDto = orderService.getOrders(userId, orderStatus, sort, order, page, size, userDetails);
+        ApiResponseDto<OrderPageResponseDto> responseDto = orderService.getOrders(userId, orderStatus, sort, order, page, size, userDetails);
         return ResponseEntity.ok(responseDto);
     }
 
+    // 주문 검색기능 (커서 기반, cursor 파라미터가 있으면 이쪽으로 라우팅 / 빈 값이면 첫 페이지)
+    @GetMapping(value = "/", params = "cursor")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<OrderHistoryResponseDto>>> getOrdersByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam Long userId,
+            @RequestParam String orderStatus,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ){
+        ApiResponseDto<CursorPageResponseDto<OrderHistoryResponseDto>> responseDto =
+                orderService.getOrdersByCursor(userId, orderStatus, cursor, size, withTotal, userDetails);
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
 }
@@ -45,6 +45,18 @@ public class ReviewController {
         return ResponseEntity.ok(apiResponseDto);
     }
 
+    //상점의 리뷰 전체 검색(커서 기반, cursor 파라미터가 있으면 이쪽으로 라우팅 / 빈 값이면 첫 페이지)
+    @GetMapping(value = "/stores/{storeId}/reviews", params = "cursor")
+    public ResponseEntity<ApiResponseDto> getStoreReviewByCursor(@PathVariable UUID storeId,
+                                                                 @RequestParam(value = "cursor") String cursor,
+                                                                 @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                 @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal
+    ){
+        ApiResponseDto apiResponseDto = ApiResponseDto.success(reviewService.getStoreReviewByCursor(storeId, cursor, size, withTotal));
+
+        return ResponseEntity.ok(apiResponseDto);
+    }
+
     //리뷰 생성
     @PostMapping("/stores/{storeId}/reviews")
     @PreAuthorize("hasAnyRole('CUSTOMER')")
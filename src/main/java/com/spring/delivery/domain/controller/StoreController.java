@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.controller;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
 import com.spring.delivery.domain.controller.dto.store.StoreCreateRequestDto;
 import com.spring.delivery.domain.controller.dto.store.StoreDetailResponseDto;
 import com.spring.delivery.domain.controller.dto.store.StoreListResponseDto;
@@ -42,6 +43,17 @@ public class StoreController {
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
+    // 커서 기반 목록 조회 (cursor 파라미터가 있으면 이쪽으로 라우팅 / 빈 값이면 첫 페이지)
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<StoreListResponseDto>>> getStoresByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        ApiResponseDto<CursorPageResponseDto<StoreListResponseDto>> responseDto = storeService.getStoresByCursor(cursor, size, withTotal);
+
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
     @GetMapping("/{id}") // 단건 조회를 위한 메서드
     public ResponseEntity<ApiResponseDto<StoreDetailResponseDto>> getStoreById(@PathVariable UUID id) {
         ApiResponseDto<StoreDetailResponseDto> responseDto = storeService.getStoreById(id);
@@ -3,6 +3,7 @@ package com.spring.delivery.domain.controller;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.user.*;
 import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.repository.UserRepository.UserRow;
 import com.spring.delivery.domain.service.UserService;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import jakarta.validation.Valid;
@@ -77,7 +78,7 @@ public class UserController {
             @RequestParam(value = "username", required = false) String username
     ) {
         // client 에서 1페이지 요청하면 0페이지를 반환하기 위해 page-1로 설정.
-        Page<User> userList = userService.searchUsers(userDetails, page-1, size, username);
+        Page<UserRow> userList = userService.searchUsers(userDetails, page-1, size, username);
         return ResponseEntity
                 .ok(
                         ApiResponseDto.success(
@@ -89,11 +90,11 @@ public class UserController {
                                                 //리스트 형태로 넣기
                                                 userList.stream()
                                                         .map(user -> UserResponseDto.builder()
-                                                                .userId(user.getId())
-                                                                .username(user.getUsername())
-                                                                .email(user.getEmail())
-                                                                .role(user.getRole())
-                                                                .deleted((user.getDeletedAt() != null))
+                                                                .userId(user.id())
+                                                                .username(user.username())
+                                                                .email(user.email())
+                                                                .role(user.role())
+                                                                .deleted((user.deletedAt() != null))
                                                                 .build()
                                                         )
                                                         .collect(Collectors.toList())
@@ -0,0 +1,45 @@
+package com.spring.delivery.domain.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spring.delivery.global.pagination.Cursor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponseDto<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    // withTotal=true 로 요청한 경우에만 count 쿼리 실행
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long total;
+
+    private CursorPageResponseDto(List<T> content, String nextCursor, boolean hasNext, Long total) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    /**
+     * size + 1 건 조회한 결과로 응답 생성.
+     * 초과분 1건이 있으면 다음 페이지가 있는 것으로 보고, 마지막 행의 커서를 nextCursor 로 내려준다.
+     */
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size, Function<E, Cursor> cursorOf,
+                                                     Function<E, T> mapper, Long total) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponseDto<>(page.stream().map(mapper).toList(), nextCursor, hasNext, total);
+    }
+}
@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.controller.dto.order;
 
 import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.repository.MenuRepository.MenuRow;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -35,8 +36,24 @@ public class MenuResponseDto {
         this.createdBy = menu.getCreatedBy();
     }
 
+    private MenuResponseDto(MenuRow row) {
+        this.id = row.id();
+        this.name = row.name();
+        this.price = row.price();
+        this.description = row.description();
+        this.publicStatus = row.publicStatus();
+        this.menuImage = row.menuImage();
+        this.storeId = row.storeId();
+        this.createdAt = row.createdAt();
+        this.createdBy = row.createdBy();
+    }
+
     public static MenuResponseDto from(Menu menu) {
         return new MenuResponseDto(menu);
     }
 
+    public static MenuResponseDto from(MenuRow row) {
+        return new MenuResponseDto(row);
+    }
+
 }
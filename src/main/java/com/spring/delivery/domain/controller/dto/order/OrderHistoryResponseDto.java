@@ -0,0 +1,38 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryResponseDto {
+
+    private UUID orderId;
+    private Long userId;
+    private String orderStatus;
+    private String orderType;
+    private String address;
+    private Long totalPrice;
+    private LocalDateTime createdAt;
+    private List<OrderLineResponseDto> lines;
+
+    public static OrderHistoryResponseDto of(Order order, List<OrderLineResponseDto> lines) {
+        return new OrderHistoryResponseDto(
+                order.getId(),
+                order.getUser() != null ? order.getUser().getId() : null,
+                order.getOrderStatus(),
+                order.getOrderType(),
+                order.getAddress(),
+                order.getTotalPrice(),
+                order.getCreatedAt(),
+                lines
+        );
+    }
+}
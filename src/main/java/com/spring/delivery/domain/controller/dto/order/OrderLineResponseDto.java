@@ -0,0 +1,30 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineResponseDto {
+
+    private UUID menuOrderId;
+    private UUID menuId;
+    private String menuName;
+    private Long price;
+    private Long amount;
+
+    public static OrderLineResponseDto from(MenuOrderRepository.OrderLine line) {
+        return new OrderLineResponseDto(
+                line.getMenuOrderId(),
+                line.getMenuId(),
+                line.getMenuName(),
+                line.getPrice(),
+                line.getAmount()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class OrderPageResponseDto {
+    private int page;
+    private int size;
+    private long total;
+
+    private List<OrderHistoryResponseDto> orders;
+}
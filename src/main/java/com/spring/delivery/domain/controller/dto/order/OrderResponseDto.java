@@ -1,12 +1,9 @@
 package com.spring.delivery.domain.controller.dto.order;
 
-import com.spring.delivery.domain.domain.entity.MenuOrder;
 import com.spring.delivery.domain.domain.entity.Order;
-import com.spring.delivery.domain.domain.entity.Payment;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -24,7 +21,6 @@ public class OrderResponseDto {
     private LocalDateTime createdAt;
     private String createdBy;
     private Long totalPrice;
-    private List<MenuOrder> menuOrders;
 
     public OrderResponseDto(Order order) {
         this.orderId = order.getId();
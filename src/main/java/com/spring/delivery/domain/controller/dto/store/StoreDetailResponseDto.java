@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -16,10 +17,14 @@ public class StoreDetailResponseDto {
     private LocalTime startTime; // 시작 시간
     private LocalTime endTime; // 종료 시간
     private List<String> categories; // 카테고리 리스트
+    private double averageRating; // 평균 평점
+    private long reviewCount; // 리뷰 수
+    private Map<Integer, Long> ratingHistogram; // 점수별 리뷰 수 (1~5)
 
     public StoreDetailResponseDto(UUID storeId, String name, String address, String tel,
                                   boolean openStatus, LocalTime startTime, LocalTime endTime,
-                                  List<String> categories) {
+                                  List<String> categories, double averageRating, long reviewCount,
+                                  Map<Integer, Long> ratingHistogram) {
         this.storeId = storeId;
         this.name = name;
         this.address = address;
@@ -28,6 +33,9 @@ public class StoreDetailResponseDto {
         this.startTime = startTime;
         this.endTime = endTime;
         this.categories = categories;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+        this.ratingHistogram = ratingHistogram;
     }
 }
 
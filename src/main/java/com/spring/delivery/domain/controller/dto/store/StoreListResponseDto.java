@@ -16,10 +16,13 @@ public class StoreListResponseDto {
     private List<String> categories; // 카테고리 리스트
     private LocalTime startTime;
     private LocalTime endTime;
+    private double averageRating; // 평균 평점
+    private long reviewCount; // 리뷰 수
 
     public StoreListResponseDto(UUID storeId, String name, String address, String tel,
                                 boolean openStatus, List<String> categories,
-                                LocalTime startTime, LocalTime endTime) {
+                                LocalTime startTime, LocalTime endTime,
+                                double averageRating, long reviewCount) {
         this.storeId = storeId;
         this.name = name;
         this.address = address;
@@ -28,5 +31,7 @@ public class StoreListResponseDto {
         this.categories = categories;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
     }
 }
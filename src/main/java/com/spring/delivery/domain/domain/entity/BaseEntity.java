@@ -4,6 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -12,10 +14,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+// soft delete 된 행은 모든 JPQL/Criteria 조회(파생 쿼리, findAll, count, existsById 포함)에서 DB 단계에서 제외
+// findById(식별자 조회)와 연관관계 로딩에는 적용되지 않으므로, 과거 주문의 삭제된 메뉴처럼 참조 중인 행은 그대로 읽힌다
+// 삭제된 행까지 봐야 하는 관리자/감사용 조회는 SoftDeleteFilter.includeDeleted 로 감싸서 실행
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseEntity.NOT_DELETED_FILTER, defaultCondition = "deleted_at is null", autoEnabled = true)
+@Filter(name = BaseEntity.NOT_DELETED_FILTER)
 public abstract class BaseEntity {
+    public static final String NOT_DELETED_FILTER = "notDeleted";
+
     // 생성, 수정 관련 필드는 JPA Auditing으로 자동 주입
     @CreatedDate
     @Column(updatable = false)
@@ -1,5 +1,6 @@
 package com.spring.delivery.domain.domain.entity;
 
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Table(name = "p_category")
 public class Category extends BaseEntity {
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     private String name;
@@ -1,5 +1,6 @@
 package com.spring.delivery.domain.domain.entity;
 
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Table(name = "p_delivery_address")
 public class DeliveryAddress extends BaseEntity {
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
     private String address;
     private String request;
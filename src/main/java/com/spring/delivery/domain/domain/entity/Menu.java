@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.domain.entity;
 
 import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class Menu extends BaseEntity {
 
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column
@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.domain.entity;
 
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,10 +17,13 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        // 관리자 주문 목록 조회 (user_id + order_status 조건, 커서 페이징 정렬 순서)
+        @Index(name = "idx_order_user_status_created", columnList = "user_id, order_status, created_at, id")
+})
 public class Order extends BaseEntity {
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.spring.delivery.domain.domain.entity;
 
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -11,10 +12,13 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
-@Table(name = "p_review")
+@Table(name = "p_review", indexes = {
+        // 가게별 리뷰 커서 페이징
+        @Index(name = "idx_review_store_created", columnList = "store_id, created_at, id")
+})
 public class Review extends BaseEntity{
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     private String contents;
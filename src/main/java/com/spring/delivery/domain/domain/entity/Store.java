@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.domain.entity;
 
 import com.spring.delivery.domain.controller.dto.store.StoreUpdateRequestDto;
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,10 +16,13 @@ import java.util.UUID;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_store")
+@Table(name = "p_store", indexes = {
+        // 가게 목록 커서 페이징
+        @Index(name = "idx_store_created", columnList = "created_at, id")
+})
 public class Store extends BaseEntity {
     @Id
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     private String name;
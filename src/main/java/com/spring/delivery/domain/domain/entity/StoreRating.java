@@ -0,0 +1,119 @@
+package com.spring.delivery.domain.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가게별 리뷰 평점 집계 (리뷰 생성/수정/삭제 시 증분 갱신).
+ * 평균 평점을 매번 AVG 로 계산하지 않고 리뷰 수와 점수 합계로 O(1) 계산한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_store_rating")
+public class StoreRating implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    private long reviewCount;
+
+    private double scoreSum;
+
+    // 점수 분포 (반올림한 점수 1~5 기준)
+    private long star1Count;
+    private long star2Count;
+    private long star3Count;
+    private long star4Count;
+    private long star5Count;
+
+    private LocalDateTime updatedAt;
+
+    // storeId 를 직접 할당하므로 save 시 merge(select) 대신 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    private StoreRating(UUID storeId) {
+        this.storeId = storeId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static StoreRating empty(UUID storeId) {
+        return new StoreRating(storeId);
+    }
+
+    public void addScore(double score) {
+        reviewCount++;
+        scoreSum += score;
+        adjustHistogram(score, 1);
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void removeScore(double score) {
+        reviewCount--;
+        scoreSum -= score;
+        adjustHistogram(score, -1);
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void changeScore(double oldScore, double newScore) {
+        scoreSum += newScore - oldScore;
+        adjustHistogram(oldScore, -1);
+        adjustHistogram(newScore, 1);
+        updatedAt = LocalDateTime.now();
+    }
+
+    // 소수 첫째 자리까지 반올림한 평균 (리뷰가 없으면 0.0)
+    public double getAverageRating() {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round(scoreSum / reviewCount * 10.0) / 10.0;
+    }
+
+    public Map<Integer, Long> getHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, star1Count);
+        histogram.put(2, star2Count);
+        histogram.put(3, star3Count);
+        histogram.put(4, star4Count);
+        histogram.put(5, star5Count);
+        return histogram;
+    }
+
+    @Override
+    public UUID getId() {
+        return storeId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private void adjustHistogram(double score, int delta) {
+        int star = (int) Math.max(1, Math.min(5, Math.round(score)));
+        switch (star) {
+            case 1 -> star1Count += delta;
+            case 2 -> star2Count += delta;
+            case 3 -> star3Count += delta;
+            case 4 -> star4Count += delta;
+            default -> star5Count += delta;
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Category;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Optional<Category> findByName(String name);
+
+    // 카테고리 목록 조회 (응답에 필요한 컬럼만 CategoryRow 로 조회)
+    @Query(value = "SELECT new com.spring.delivery.domain.domain.repository.CategoryRepository$CategoryRow(" +
+            "c.id, c.name, c.deletedAt) FROM Category c",
+            countQuery = "SELECT count(c) FROM Category c")
+    Page<CategoryRow> findAllRows(Pageable pageable);
+
+    record CategoryRow(UUID id, String name, LocalDateTime deletedAt) {
+    }
 }
@@ -3,16 +3,23 @@ package com.spring.delivery.domain.domain.repository;
 import com.spring.delivery.domain.domain.entity.DeliveryAddress;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface DeliveryAddressRepository extends JpaRepository<DeliveryAddress, UUID> {
 
-    @Query(value = "SELECT d FROM DeliveryAddress d  WHERE d.user.id= :userId and d.deletedBy is null")
+    // 삭제된 배송지는 soft delete 필터(BaseEntity)가 모든 조회에서 제외
+    @Query(value = "SELECT d FROM DeliveryAddress d  WHERE d.user.id= :userId")
     List<DeliveryAddress> findByUser_Id(Long userId);
 
+    // 단건 조회 (findById 와 달리 삭제된 배송지는 조회되지 않음)
+    @Query("SELECT d FROM DeliveryAddress d WHERE d.id = :id")
+    Optional<DeliveryAddress> findActiveById(@Param("id") UUID id);
+
     DeliveryAddress findByUser_IdAndAddress(Long userId, String address);
 }
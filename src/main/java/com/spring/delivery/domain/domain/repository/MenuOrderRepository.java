@@ -2,11 +2,35 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.MenuOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 
 public interface MenuOrderRepository extends JpaRepository<MenuOrder, UUID> {
     List<MenuOrder> findByOrderId(UUID orderId);
+
+    // 여러 주문의 메뉴 라인을 메뉴 요약 정보와 함께 한 번에 조회 (주문 목록 N+1 방지)
+    @Query("SELECT mo.order.id AS orderId, mo.id AS menuOrderId, m.id AS menuId, " +
+            "m.name AS menuName, m.price AS price, mo.amount AS amount " +
+            "FROM MenuOrder mo JOIN mo.menu m " +
+            "WHERE mo.order.id IN :orderIds")
+    List<OrderLine> findLinesByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
+
+    interface OrderLine {
+        UUID getOrderId();
+
+        UUID getMenuOrderId();
+
+        UUID getMenuId();
+
+        String getMenuName();
+
+        Long getPrice();
+
+        Long getAmount();
+    }
 }
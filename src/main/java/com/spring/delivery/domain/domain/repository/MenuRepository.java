@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,8 +18,14 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
     @Query("SELECT m FROM Menu m WHERE m.id = :menuId AND m.public_status = true")
     Optional<Menu> findActiveMenuById(@Param("menuId") UUID menuId);
 
-    // 메뉴 전체 리스트 조회
-    @Query("SELECT m FROM Menu m WHERE m.store.id = :storeId AND m.public_status = true")
-    Page<Menu> findActiveMenusByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+    // 메뉴 전체 리스트 조회 (응답에 필요한 컬럼만 MenuRow 로 조회, 엔티티로 올리지 않음)
+    @Query(value = "SELECT new com.spring.delivery.domain.domain.repository.MenuRepository$MenuRow(" +
+            "m.id, m.name, m.price, m.description, m.public_status, m.menu_image, m.store.id, m.createdAt, m.createdBy) " +
+            "FROM Menu m WHERE m.store.id = :storeId AND m.public_status = true",
+            countQuery = "SELECT count(m) FROM Menu m WHERE m.store.id = :storeId AND m.public_status = true")
+    Page<MenuRow> findActiveMenusByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
 
+    record MenuRow(UUID id, String name, Long price, String description, Boolean publicStatus,
+                   String menuImage, UUID storeId, LocalDateTime createdAt, String createdBy) {
+    }
 }
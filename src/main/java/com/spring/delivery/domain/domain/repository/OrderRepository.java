@@ -1,12 +1,53 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
     Page<Order> findByUserIdAndOrderStatus(Long userId, String orderStatus, Pageable pageable);
+
+    // 커서 기반 조회 (createdAt, id 내림차순) - 첫 페이지
+    // 주문 상태가 있을 때와 없을(null) 때를 쿼리로 나눠서, 어느 쪽이든 (user_id, order_status, created_at, id) 인덱스의 등호 조건이 되도록 함
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :orderStatus " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstPageByUserIdAndOrderStatus(@Param("userId") Long userId,
+                                                    @Param("orderStatus") String orderStatus,
+                                                    Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderStatus IS NULL " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstPageByUserIdAndOrderStatusIsNull(@Param("userId") Long userId,
+                                                          Limit limit);
+
+    // 커서 기반 조회 - 커서 이후 페이지
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :orderStatus " +
+            "AND (o.createdAt, o.id) < (:createdAt, :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findNextPageByUserIdAndOrderStatus(@Param("userId") Long userId,
+                                                   @Param("orderStatus") String orderStatus,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") UUID id,
+                                                   Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderStatus IS NULL " +
+            "AND (o.createdAt, o.id) < (:createdAt, :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findNextPageByUserIdAndOrderStatusIsNull(@Param("userId") Long userId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") UUID id,
+                                                         Limit limit);
+
+    // 커서 조회 전체 건수 (페이지 조회와 같은 조건)
+    long countByUserIdAndOrderStatus(Long userId, String orderStatus);
+
+    long countByUserIdAndOrderStatusIsNull(Long userId);
 }
@@ -1,19 +1,58 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
-    @Query(value = "SELECT AVG(r.score) FROM Review r WHERE r.store.id = :storeId" )
-    Double findByStoreAverageRating(UUID storeId);
+    // 삭제된 리뷰는 soft delete 필터(BaseEntity)가 모든 조회에서 제외
 
-    @Query(value = "SELECT r FROM Review r Where r.store.id = :storeId and r.deletedBy is null")
-    Page<Review> findByReview(UUID storeId, Pageable pageable);
+    // 단건 조회 (findById 와 달리 삭제된 리뷰는 조회되지 않음)
+    @Query("SELECT r FROM Review r WHERE r.id = :reviewId")
+    Optional<Review> findActiveById(@Param("reviewId") UUID reviewId);
+
+    // 평점 집계 재계산용 (삭제되지 않은 리뷰의 점수)
+    @Query("SELECT r.score FROM Review r WHERE r.store.id = :storeId AND r.score IS NOT NULL")
+    List<Double> findActiveScoresByStoreId(@Param("storeId") UUID storeId);
+
+    // 목록 조회는 응답에 필요한 컬럼만 ReviewRow 로 조회 (엔티티/영속성 컨텍스트 스냅샷 생성 없음)
+    @Query(value = "SELECT new com.spring.delivery.domain.domain.repository.ReviewRepository$ReviewRow(" +
+            "r.id, r.score, r.contents, r.createdAt) " +
+            "FROM Review r WHERE r.store.id = :storeId",
+            countQuery = "SELECT count(r) FROM Review r WHERE r.store.id = :storeId")
+    Page<ReviewRow> findByReview(@Param("storeId") UUID storeId, Pageable pageable);
+
+    // 커서 기반 조회 (createdAt, id 내림차순) - 첫 페이지
+    @Query("SELECT new com.spring.delivery.domain.domain.repository.ReviewRepository$ReviewRow(" +
+            "r.id, r.score, r.contents, r.createdAt) " +
+            "FROM Review r WHERE r.store.id = :storeId " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRow> findFirstPageByStoreId(@Param("storeId") UUID storeId, Limit limit);
+
+    // 커서 기반 조회 - 커서 이후 페이지
+    @Query("SELECT new com.spring.delivery.domain.domain.repository.ReviewRepository$ReviewRow(" +
+            "r.id, r.score, r.contents, r.createdAt) " +
+            "FROM Review r WHERE r.store.id = :storeId " +
+            "AND (r.createdAt, r.id) < (:createdAt, :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewRow> findNextPageByStoreId(@Param("storeId") UUID storeId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    long countByStoreId(UUID storeId);
+
+    record ReviewRow(UUID id, Double score, String contents, LocalDateTime createdAt) {
+    }
 }
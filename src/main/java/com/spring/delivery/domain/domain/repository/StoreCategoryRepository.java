@@ -2,7 +2,10 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.StoreCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +14,16 @@ public interface StoreCategoryRepository extends JpaRepository<StoreCategory, UU
     Optional<StoreCategory> findByStoreIdAndCategoryId(UUID storeId, UUID categoryId);
 
     List<StoreCategory> findByStoreId(UUID storeId);
+
+    // 여러 가게의 카테고리 이름을 한 번에 조회 (가게 목록 N+1 방지)
+    @Query("SELECT sc.store.id AS storeId, c.name AS categoryName " +
+            "FROM StoreCategory sc JOIN sc.category c " +
+            "WHERE sc.store.id IN :storeIds")
+    List<StoreCategoryName> findCategoryNamesByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
+
+    interface StoreCategoryName {
+        UUID getStoreId();
+
+        String getCategoryName();
+    }
 }
@@ -0,0 +1,29 @@
+package com.spring.delivery.domain.domain.repository;
+
+import com.spring.delivery.domain.domain.entity.StoreRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StoreRatingRepository extends JpaRepository<StoreRating, UUID> {
+
+    // 동시에 들어온 리뷰 변경이 집계를 덮어쓰지 않도록 행 잠금 후 갱신
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sr FROM StoreRating sr WHERE sr.storeId = :storeId")
+    Optional<StoreRating> findByIdForUpdate(@Param("storeId") UUID storeId);
+
+    // 집계 행이 없을 때만 추가 (동시에 다른 트랜잭션이 먼저 추가했으면 아무것도 하지 않음)
+    @Modifying
+    @Query("INSERT INTO StoreRating (storeId, reviewCount, scoreSum, star1Count, star2Count, star3Count, star4Count, star5Count, updatedAt) " +
+            "VALUES (:#{#rating.storeId}, :#{#rating.reviewCount}, :#{#rating.scoreSum}, " +
+            ":#{#rating.star1Count}, :#{#rating.star2Count}, :#{#rating.star3Count}, :#{#rating.star4Count}, :#{#rating.star5Count}, " +
+            ":#{#rating.updatedAt}) " +
+            "ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("rating") StoreRating rating);
+}
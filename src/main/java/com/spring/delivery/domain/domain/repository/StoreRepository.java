@@ -1,22 +1,39 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Store;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, UUID> {
-    Page<Store> findByDeletedAtIsNull(Pageable pageable); // pageable을 인자로 받는 메서드 추가
+    // 삭제된 가게는 soft delete 필터(BaseEntity)가 모든 조회에서 제외
 
-    @Query("SELECT s FROM Store s WHERE s.deletedAt IS NULL AND " +
+    // 검색 인덱스 구성용 (count 쿼리 없이 순차 조회)
+    Slice<Store> findSliceBy(Pageable pageable);
+
+    @Query("SELECT s FROM Store s WHERE " +
             "(LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
             " LOWER(s.address) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
             " LOWER(s.tel) LIKE LOWER(CONCAT('%', :query, '%')))")
     Page<Store> searchStores(String query, Pageable pageable);
+
+    // 커서 기반 조회 (createdAt, id 내림차순) - 첫 페이지
+    @Query("SELECT s FROM Store s ORDER BY s.createdAt DESC, s.id DESC")
+    List<Store> findFirstPage(Limit limit);
+
+    // 커서 기반 조회 - 커서 이후 페이지
+    @Query("SELECT s FROM Store s WHERE (s.createdAt, s.id) < (:createdAt, :id) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Store> findNextPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
 }
 
@@ -1,10 +1,13 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,5 +15,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
-    Page<User> findAllByUsernameContains(String username, Pageable pageable);
+    // 회원 목록 조회 (응답에 필요한 컬럼만 UserRow 로 조회, password 등은 읽지 않음)
+    @Query(value = "SELECT new com.spring.delivery.domain.domain.repository.UserRepository$UserRow(" +
+            "u.id, u.username, u.email, u.role, u.deletedAt) FROM User u",
+            countQuery = "SELECT count(u) FROM User u")
+    Page<UserRow> findAllRows(Pageable pageable);
+
+    // username 을 포함한 회원 목록 조회 (검색어의 %, _ 는 문자 그대로 비교)
+    @Query(value = "SELECT new com.spring.delivery.domain.domain.repository.UserRepository$UserRow(" +
+            "u.id, u.username, u.email, u.role, u.deletedAt) FROM User u " +
+            "WHERE u.username LIKE %?#{escape([0])}% ESCAPE ?#{escapeCharacter()}",
+            countQuery = "SELECT count(u) FROM User u WHERE u.username LIKE %?#{escape([0])}% ESCAPE ?#{escapeCharacter()}")
+    Page<UserRow> findRowsByUsernameContains(String username, Pageable pageable);
+
+    record UserRow(Long id, String username, String email, Role role, LocalDateTime deletedAt) {
+    }
 }
@@ -0,0 +1,15 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 카테고리 수정/삭제 이벤트 (카테고리 이름이 가게 응답에 포함되므로 가게 캐시 무효화에 사용)
+@Getter
+public class CategoryChangedEvent {
+    private final UUID categoryId;
+
+    public CategoryChangedEvent(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// AI 추천 내역 생성/삭제 이벤트 (트랜잭션 커밋 후 검색 인덱스 반영 등에 사용)
+@Getter
+public class GeminiChangedEvent {
+    private final UUID geminiId;
+
+    public GeminiChangedEvent(UUID geminiId) {
+        this.geminiId = geminiId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 메뉴 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 메뉴 캐시 무효화 등에 사용)
+@Getter
+public class MenuChangedEvent {
+    private final UUID storeId;
+    private final UUID menuId;
+
+    public MenuChangedEvent(UUID storeId, UUID menuId) {
+        this.storeId = storeId;
+        this.menuId = menuId;
+    }
+}
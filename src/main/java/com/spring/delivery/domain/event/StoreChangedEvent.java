@@ -0,0 +1,15 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 가게 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 캐시 무효화 등에 사용)
+@Getter
+public class StoreChangedEvent {
+    private final UUID storeId;
+
+    public StoreChangedEvent(UUID storeId) {
+        this.storeId = storeId;
+    }
+}
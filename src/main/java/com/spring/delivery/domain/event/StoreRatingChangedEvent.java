@@ -0,0 +1,15 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 가게 평점 집계 변경 이벤트 (리뷰 생성/수정/삭제 시 발행)
+@Getter
+public class StoreRatingChangedEvent {
+    private final UUID storeId;
+
+    public StoreRatingChangedEvent(UUID storeId) {
+        this.storeId = storeId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.spring.delivery.domain.event;
+
+import lombok.Getter;
+
+// 유저 수정/삭제 이벤트 (변경 전 username 기준으로 인증 캐시 무효화)
+@Getter
+public class UserChangedEvent {
+    private final String username;
+
+    public UserChangedEvent(String username) {
+        this.username = username;
+    }
+}
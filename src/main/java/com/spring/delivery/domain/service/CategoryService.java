@@ -8,7 +8,11 @@ import com.spring.delivery.domain.controller.dto.category.CategoryUpdateResponse
 import com.spring.delivery.domain.domain.entity.Category;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.CategoryRepository.CategoryRow;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.global.persistence.SoftDeleteFilter;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,9 +27,13 @@ import java.util.UUID;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoftDeleteFilter softDeleteFilter;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher, SoftDeleteFilter softDeleteFilter) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.softDeleteFilter = softDeleteFilter;
     }
 
     // 권한 체크 메서드
@@ -91,12 +99,13 @@ public class CategoryService {
         Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Category> categories = categoryRepository.findAll(pageable);
+        // 관리자 조회라 삭제(숨김)된 카테고리도 포함 (응답의 deletedAt 으로 구분)
+        Page<CategoryRow> categories = softDeleteFilter.includeDeleted(() -> categoryRepository.findAllRows(pageable));
 
         return ApiResponseDto.success(categories.map(category -> new CategoryListResponseDto(
-                category.getId(),
-                category.getName(),
-                category.getDeletedAt()
+                category.id(),
+                category.name(),
+                category.deletedAt()
         )));
     }
 
@@ -121,6 +130,8 @@ public class CategoryService {
         category.updateName(requestDto.getName());
         categoryRepository.flush();
 
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+
         return ApiResponseDto.success(new CategoryUpdateResponseDto(category.getId(), category.getName(), category.getUpdatedAt()));
     }
 
@@ -140,6 +151,8 @@ public class CategoryService {
 
         category.delete(userDetails.getUsername());
 
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+
         return ApiResponseDto.success(new CategoryDeleteResponseDto(
                 "카테고리가 삭제(숨김 처리)되었습니다.",
                 category.getDeletedAt()
@@ -109,17 +109,12 @@ public class DeliveryAddressService {
     }
 
     public DeliveryAddressResponseDto selectDeliveryAddress(UUID id, UserDetailsImpl userDetails) {
-        DeliveryAddress deliveryAddress = deliveryAddressRepository.findById(id).orElseThrow(
+        //삭제된 데이터는 조회되지 않음
+        DeliveryAddress deliveryAddress = deliveryAddressRepository.findActiveById(id).orElseThrow(
                 () -> new NoSuchElementException("해당되는 배송지가 없습니다."));
 
         Role currentUserRole = userDetails.getUser().getRole();
 
-        //삭제된 데이터면 검색 X
-        if(deliveryAddress.getDeletedBy() != null){
-            log.warn("삭제된 데이터입니다 : {}", deliveryAddress.getId());
-            throw new NoSuchElementException("삭제된 데이터입니다");
-        }
-
         //계정이 다르거나 권한이 CUSTOMER이 아니면 에러
         if(deliveryAddress.getUser().getId() != userDetails.getUser().getId() ||
                 currentUserRole != Role.CUSTOMER){
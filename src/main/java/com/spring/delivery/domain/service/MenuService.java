@@ -8,9 +8,13 @@ import com.spring.delivery.domain.domain.entity.Menu;
 import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository.MenuRow;
+import com.spring.delivery.domain.event.MenuChangedEvent;
+import com.spring.delivery.domain.service.cache.MenuCatalogCache;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +34,8 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final MenuCatalogCache menuCatalogCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -51,6 +57,7 @@ public class MenuService {
         // 메뉴 생성
         Menu menu = Menu.of(requestDto, store);
         menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(store.getId(), menu.getId()));
 
         return ApiResponseDto.success(MenuResponseDto.from(menu));
     }
@@ -76,6 +83,7 @@ public class MenuService {
         }
 
         Menu.update(menu, requestDto);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu.getStore().getId(), menuId));
 
         return ApiResponseDto.success(null);
 
@@ -101,10 +109,22 @@ public class MenuService {
         }
 
         menu.delete(userDetails.getUsername()); // soft delete
+        eventPublisher.publishEvent(new MenuChangedEvent(menu.getStore().getId(), menuId));
 
         return ApiResponseDto.success(null);
     }
 
+    // 메뉴 단건 조회 (캐시된 JSON 응답, 미스일 때만 DB 조회)
+    public MenuCatalogCache.Payload getMenuDetailPayload(UUID menuId) {
+        return menuCatalogCache.getMenuDetail(menuId, () -> getMenuDetail(menuId));
+    }
+
+    // 메뉴 전체 조회 (캐시된 JSON 응답, 미스일 때만 DB 조회)
+    public MenuCatalogCache.Payload getMenusByStorePayload(UUID storeId, int page, int size, String sort, String order) {
+        return menuCatalogCache.getMenuPage(storeId, page, size, sort, order,
+                () -> getMenusByStore(storeId, page, size, sort, order));
+    }
+
     // 메뉴 단건 조회
     @Transactional(readOnly = true)
     public ApiResponseDto<MenuResponseDto> getMenuDetail(UUID menuId) {
@@ -133,7 +153,7 @@ public class MenuService {
             Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
             Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, sort));
 
-            Page<Menu> menuPage = menuRepository.findActiveMenusByStoreId(storeId, pageable);
+            Page<MenuRow> menuPage = menuRepository.findActiveMenusByStoreId(storeId, pageable);
 
             List<MenuResponseDto> menuList = menuPage.getContent().stream()
                     .map(MenuResponseDto::from)
@@ -1,7 +1,9 @@
 package com.spring.delivery.domain.service;
 
 import com.spring.delivery.domain.controller.dto.*;
-import com.spring.delivery.domain.controller.dto.order.OrderMenuResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderLineResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderPageResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
 import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
 import com.spring.delivery.domain.domain.entity.Menu;
@@ -12,8 +14,10 @@ import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
 import com.spring.delivery.domain.domain.repository.MenuRepository;
 import com.spring.delivery.domain.domain.repository.OrderRepository;
 import com.spring.delivery.domain.domain.repository.PaymentRepository;
+import com.spring.delivery.global.pagination.Cursor;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -44,17 +48,29 @@ public class OrderService {
         // 메뉴의 정보가 여러개이기 때문에 리스트로 반환
         List<Map<UUID, Long>> menuInfo = orderRequestDto.getMenuInfo();
 
-        // 리스트의 정보를 MenuOrder table에 저장
+        // 주문에 포함된 메뉴를 IN 쿼리 한 번으로 조회
+        Set<UUID> menuIds = menuInfo.stream()
+                .flatMap(menuItems -> menuItems.keySet().stream())
+                .collect(Collectors.toSet());
+        Map<UUID, Menu> menus = menuRepository.findAllById(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, menu -> menu));
+
+        if (menus.size() != menuIds.size()) {
+            List<UUID> missingMenuIds = menuIds.stream()
+                    .filter(menuId -> !menus.containsKey(menuId))
+                    .toList();
+            throw new IllegalArgumentException("유효하지 않은 메뉴 ID: " + missingMenuIds);
+        }
+
+        // 리스트의 정보를 MenuOrder table에 저장 (hibernate.jdbc.batch_size 단위로 일괄 insert)
+        List<MenuOrder> menuOrders = new ArrayList<>();
         for (Map<UUID, Long> menuItems : menuInfo) {
             for (Map.Entry<UUID, Long> menuItem : menuItems.entrySet()) {
-                UUID menuId = menuItem.getKey();
-                Long amount = menuItem.getValue();
-                Menu menu = menuRepository.findById(menuId).orElse(null);
                 // 주문, 메뉴, 메뉴 수량
-                MenuOrder menuOrder = MenuOrder.create(order, menu , amount);
-                menuOrderRepository.save(menuOrder);
+                menuOrders.add(MenuOrder.create(order, menus.get(menuItem.getKey()), menuItem.getValue()));
             }
         }
+        menuOrderRepository.saveAll(menuOrders);
 
         // paymentData 도 함께 받아와서 저장하자! -> order 객체, 총가격, 카드번호
         Payment payment = Payment.createPayment(order, orderRequestDto.getCardNumber());
@@ -127,37 +143,29 @@ public class OrderService {
         return ApiResponseDto.success(null);
     }
 
-    public ApiResponseDto<OrderMenuResponseDto> getOrder(UUID id) {
+    // 주문 단건 조회 (주문 목록과 같은 형태로 주문 정보 + 메뉴 라인만 응답, 엔티티는 응답에 넣지 않음)
+    @Transactional(readOnly = true)
+    public ApiResponseDto<OrderHistoryResponseDto> getOrder(UUID id) {
         // 들어온 주문 id가 주문 DB에 있는지 확인
         Order order = orderRepository.findById(id).orElse(null);
         if (order == null) {
             return ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다.");
         }
 
-        // 들어온 주문의 메뉴들들 db 에서 가져옴
-        // 주문정보와, 메뉴 아이디들을 가져온다
-        List<UUID> menuOrder = menuOrderRepository.findByOrderId(id).stream()
-                .map(MenuOrder::getId)
-                .toList();
-
-        List<Menu> menus = new ArrayList<>();
-        // 메뉴아이디들로 메뉴정보 조회를 한다.
-        menuOrder.forEach(orderMenuId -> {
-            Menu menu = menuRepository.findById(orderMenuId).orElse(null);
-            menus.add(menu);
-        });
+        // 주문의 메뉴 라인을 메뉴 정보와 함께 한 번에 조회
+        List<OrderLineResponseDto> lines = findOrderLines(List.of(order.getId())).getOrDefault(order.getId(), List.of());
 
-        // 주문정보 + 메뉴정보들을 합쳐서 보내준다.
-        return ApiResponseDto.success(OrderMenuResponseDto.from(order, menus));
+        return ApiResponseDto.success(OrderHistoryResponseDto.of(order, lines));
     }
 
-    public ApiResponseDto<List<OrderMenuResponseDto>> getOrders(Long userId,
-                                                                String orderStatus,
-                                                                String sort,
-                                                                String order,
-                                                                int page,
-                                                                int size ,
-                                                                UserDetailsImpl userDetails) {
+    @Transactional(readOnly = true)
+    public ApiResponseDto<OrderPageResponseDto> getOrders(Long userId,
+                                                          String orderStatus,
+                                                          String sort,
+                                                          String order,
+                                                          int page,
+                                                          int size ,
+                                                          UserDetailsImpl userDetails) {
         // MASTER, MANAGER만 사용가능 -> userDetails에서 role확인
         Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
         // user의 권한이 MASETR , MANAGER 라면 TRUE값 리턴
@@ -176,21 +184,93 @@ public class OrderService {
 
         Page<Order> orderPage = orderRepository.findByUserIdAndOrderStatus(userId, orderStatus, pageable);
 
+        // 페이지에 포함된 주문들의 메뉴 라인을 한 번에 조회
+        List<UUID> orderIds = orderPage.getContent().stream()
+                .map(Order::getId)
+                .toList();
+        Map<UUID, List<OrderLineResponseDto>> linesByOrder = findOrderLines(orderIds);
+
         // 주문 목록을 DTO로 변환
-        List<OrderMenuResponseDto> orderMenuResponseDtos = orderPage.getContent().stream()
-                .map(orders -> {
-                    // 주문 아이디로 메뉴 리스트 조회
-                    List<MenuOrder> menuOrders = menuOrderRepository.findByOrderId(orders.getId());
+        List<OrderHistoryResponseDto> orders = orderPage.getContent().stream()
+                .map(orderEntity -> OrderHistoryResponseDto.of(
+                        orderEntity, linesByOrder.getOrDefault(orderEntity.getId(), List.of())))
+                .toList();
+
+        return ApiResponseDto.success(OrderPageResponseDto.builder()
+                .page(page)
+                .size(size)
+                .total(orderPage.getTotalElements())
+                .orders(orders)
+                .build());
+    }
+
+    // 커서 기반 주문 목록 조회 (최신순, count 쿼리는 withTotal 일 때만)
+    @Transactional(readOnly = true)
+    public ApiResponseDto<CursorPageResponseDto<OrderHistoryResponseDto>> getOrdersByCursor(Long userId,
+                                                                                          String orderStatus,
+                                                                                          String cursor,
+                                                                                          int size,
+                                                                                          boolean withTotal,
+                                                                                          UserDetailsImpl userDetails) {
+        // MASTER, MANAGER만 사용가능 -> userDetails에서 role확인
+        Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
+        boolean isMangerOrMaster = authorities.stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_MANAGER") || auth.getAuthority().equals("ROLE_MASTER"));
+
+        if (!isMangerOrMaster) {
+            return ApiResponseDto.fail(403, "주문목록을 조회할 권한이 없습니다.");
+        }
+        Cursor.checkSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        Cursor after = Cursor.decode(cursor);
+        List<Order> orders = findOrderPage(userId, orderStatus, after, Limit.of(size + 1));
+
+        Map<UUID, List<OrderLineResponseDto>> linesByOrder = findOrderLines(orders.stream()
+                .limit(size)
+                .map(Order::getId)
+                .toList());
+        Long total = withTotal ? countOrders(userId, orderStatus) : null;
+
+        return ApiResponseDto.success(CursorPageResponseDto.of(
+                orders,
+                size,
+                orderEntity -> new Cursor(orderEntity.getCreatedAt(), orderEntity.getId()),
+                orderEntity -> OrderHistoryResponseDto.of(
+                        orderEntity, linesByOrder.getOrDefault(orderEntity.getId(), List.of())),
+                total
+        ));
+    }
+
+    // 주문 상태가 없으면(null) IS NULL 쿼리로 조회 (상태 유무에 따라 쿼리를 나눠 인덱스 등호 조건 유지)
+    private List<Order> findOrderPage(Long userId, String orderStatus, Cursor after, Limit limit) {
+        if (orderStatus == null) {
+            return after == null
+                    ? orderRepository.findFirstPageByUserIdAndOrderStatusIsNull(userId, limit)
+                    : orderRepository.findNextPageByUserIdAndOrderStatusIsNull(userId, after.createdAt(), after.id(), limit);
+        }
+        return after == null
+                ? orderRepository.findFirstPageByUserIdAndOrderStatus(userId, orderStatus, limit)
+                : orderRepository.findNextPageByUserIdAndOrderStatus(userId, orderStatus, after.createdAt(), after.id(), limit);
+    }
 
-                    // 메뉴 아이디들로 메뉴 정보 조회
-                    List<Menu> menus = menuOrders.stream()
-                            .map(menuOrder -> menuRepository.findById(menuOrder.getId()).orElse(null))
-                            .collect(Collectors.toList());
+    // 페이지 조회와 같은 조건의 전체 건수
+    private long countOrders(Long userId, String orderStatus) {
+        return orderStatus == null
+                ? orderRepository.countByUserIdAndOrderStatusIsNull(userId)
+                : orderRepository.countByUserIdAndOrderStatus(userId, orderStatus);
+    }
 
-                    // 주문 정보와 메뉴 리스트를 DTO로 변환하여 반환
-                    return new OrderMenuResponseDto(orders, menus);
-                }).toList();
+    // 주문 ID 목록으로 주문별 메뉴 라인 조회
+    private Map<UUID, List<OrderLineResponseDto>> findOrderLines(List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
 
-        return ApiResponseDto.success(orderMenuResponseDtos);
+        return menuOrderRepository.findLinesByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(
+                        MenuOrderRepository.OrderLine::getOrderId,
+                        Collectors.mapping(OrderLineResponseDto::from, Collectors.toList())
+                ));
     }
 }
@@ -1,5 +1,6 @@
 package com.spring.delivery.domain.service;
 
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
 import com.spring.delivery.domain.controller.dto.review.*;
 
 import com.spring.delivery.domain.domain.entity.Order;
@@ -8,19 +9,23 @@ import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.ReviewRepository;
+import com.spring.delivery.domain.domain.repository.ReviewRepository.ReviewRow;
 
 import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.global.pagination.Cursor;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +39,9 @@ public class ReviewService {
 
     private final StoreRepository storeRepository;
 
+    private final StoreRatingService storeRatingService;
+
+    @Transactional
     public ReviewResponseDto createReview(UUID storeId, ReviewRequestDto dto, UserDetailsImpl userDetails) {
         Store store = storeRepository.findById(storeId).orElseThrow(() -> new NoSuchElementException("해당되는 상점이 없습니다"));
 
@@ -49,6 +57,9 @@ public class ReviewService {
             throw new IllegalArgumentException("권한이 없습니다");
         }
 
+        // 평점 집계 갱신 (리뷰 저장 전에 호출)
+        storeRatingService.addReview(store.getId(), dto.getRating());
+
         Review review = reviewRepository.save(
                 Review.builder()
                         .score(dto.getRating())
@@ -69,14 +80,11 @@ public class ReviewService {
 
     //리뷰 단건 검색 기능
     public ReviewDetailsResponseDto getReviewDetails(UUID reviewId)  {
-        Review review = reviewRepository.findById(reviewId).orElseThrow(
+        // 삭제된 리뷰는 조회되지 않음
+        Review review = reviewRepository.findActiveById(reviewId).orElseThrow(
                 () -> new NoSuchElementException("해당되는 리뷰가 없습니다.")
         );
 
-        if(review.getDeletedBy() != null){
-            throw new NoSuchElementException("삭제된 리뷰입니다.");
-        }
-
         return ReviewDetailsResponseDto.builder()
                 .id(review.getId())
                 .rating(review.getScore())
@@ -101,7 +109,7 @@ public class ReviewService {
 
         Pageable pageable = PageRequest.of(page, size, pageSort);
 
-        Page<Review> storeReview = reviewRepository.findByReview(store.getId(), pageable);
+        Page<ReviewRow> storeReview = reviewRepository.findByReview(store.getId(), pageable);
 
         return ReviewStoreResponseDto.builder()
                 //페이지네이션 정보
@@ -111,18 +119,35 @@ public class ReviewService {
                 //상점의 리뷰들
                 .reviews(
                         storeReview.stream()
-                                .map(review -> ReviewResponseDto.builder()
-                                        .id(review.getId())
-                                        .rating(review.getScore())
-                                        .comment(review.getContents())
-                                        .created_at(review.getCreatedAt())
-                                        .build()
-                                )
+                                .map(this::toResponseDto)
                                 .collect(Collectors.toList())
                 )
                 .build();
     }
 
+    //상점의 리뷰들 커서 기반 검색 (최신순, count 쿼리는 withTotal 일 때만)
+    public CursorPageResponseDto<ReviewResponseDto> getStoreReviewByCursor(UUID storeId, String cursor, int size, boolean withTotal) {
+        Cursor.checkSize(size);
+        Store store = storeRepository.findById(storeId).orElseThrow(() -> new NoSuchElementException("해당되는 상점이 없습니다"));
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<ReviewRow> reviews = after == null
+                ? reviewRepository.findFirstPageByStoreId(store.getId(), limit)
+                : reviewRepository.findNextPageByStoreId(store.getId(), after.createdAt(), after.id(), limit);
+
+        Long total = withTotal ? reviewRepository.countByStoreId(store.getId()) : null;
+
+        return CursorPageResponseDto.of(
+                reviews,
+                size,
+                review -> new Cursor(review.createdAt(), review.id()),
+                this::toResponseDto,
+                total
+        );
+    }
+
     @Transactional
     public ReviewUpdateResponseDto updateReview(UUID reviewId, ReviewUpdateRequestDto dto, UserDetailsImpl userDetails) {
 
@@ -140,6 +165,12 @@ public class ReviewService {
             throw new IllegalArgumentException("계정 정보가 다르거나 존재하지 않는 권한입니다.");
         }
 
+        // 평점 집계 갱신 (리뷰 변경 전에 호출, 삭제된 리뷰는 집계에 없음)
+        if (review.getDeletedBy() == null && review.getScore() != null && dto.getRating() != null
+                && !review.getScore().equals(dto.getRating())) {
+            storeRatingService.changeReview(review.getStore().getId(), review.getScore(), dto.getRating());
+        }
+
         review.update(dto.getRating(), dto.getComment());
 
         //일치하다면 변경 수행 일치하는것만 하는게 좋음
@@ -175,6 +206,11 @@ public class ReviewService {
             throw new NoSuchElementException("이미 삭제된 리뷰입니다.");
         }
 
+        // 평점 집계 갱신 (리뷰 변경 전에 호출)
+        if (review.getScore() != null) {
+            storeRatingService.removeReview(review.getStore().getId(), review.getScore());
+        }
+
         review.delete(userDetails.getUser().getUsername());
 
         return ReviewDeleteResponseDto.builder()
@@ -183,9 +219,17 @@ public class ReviewService {
                 .build();
     }
 
-    //상점의 평점 평균 계산
+    private ReviewResponseDto toResponseDto(ReviewRow review) {
+        return ReviewResponseDto.builder()
+                .id(review.id())
+                .rating(review.score())
+                .comment(review.contents())
+                .created_at(review.createdAt())
+                .build();
+    }
+
+    //상점의 평점 평균 (집계 테이블에서 O(1) 조회, 리뷰가 없으면 0.0)
     public Double selectStoreAverageRating(UUID storeId) {
-        Double averageRating = Math.round(reviewRepository.findByStoreAverageRating(storeId) * 10.0) / 10.0;
-        return averageRating;
+        return storeRatingService.getRating(storeId).getAverageRating();
     }
 }
@@ -0,0 +1,87 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.domain.entity.StoreRating;
+import com.spring.delivery.domain.domain.repository.ReviewRepository;
+import com.spring.delivery.domain.domain.repository.StoreRatingRepository;
+import com.spring.delivery.domain.event.StoreRatingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가게별 평점 집계 관리.
+ * 갱신 메서드는 리뷰 변경과 같은 트랜잭션에서, 리뷰 엔티티를 변경하기 전에 호출해야 한다.
+ * (집계가 없는 기존 가게는 현재 DB의 리뷰로 재계산하므로 변경분이 먼저 flush 되면 두 번 반영됨)
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreRatingService {
+
+    private final StoreRatingRepository storeRatingRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 가게 생성 시 빈 집계 생성
+    public void initialize(UUID storeId) {
+        storeRatingRepository.save(StoreRating.empty(storeId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addReview(UUID storeId, double score) {
+        lock(storeId).addScore(score);
+        eventPublisher.publishEvent(new StoreRatingChangedEvent(storeId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void changeReview(UUID storeId, double oldScore, double newScore) {
+        lock(storeId).changeScore(oldScore, newScore);
+        eventPublisher.publishEvent(new StoreRatingChangedEvent(storeId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeReview(UUID storeId, double score) {
+        lock(storeId).removeScore(score);
+        eventPublisher.publishEvent(new StoreRatingChangedEvent(storeId));
+    }
+
+    // 단건 조회 (집계가 없으면 리뷰 0건으로 간주)
+    public StoreRating getRating(UUID storeId) {
+        return storeRatingRepository.findById(storeId).orElseGet(() -> StoreRating.empty(storeId));
+    }
+
+    // 가게 목록용 일괄 조회
+    public Map<UUID, StoreRating> getRatings(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return storeRatingRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(StoreRating::getStoreId, Function.identity()));
+    }
+
+    // 집계 행이 없으면 (V2 이후 initialize 없이 생긴 가게) 현재 리뷰로 재계산해서 추가한 뒤 잠금
+    // 동시에 첫 리뷰가 들어와도 추가는 한 번만 되고, 나머지는 먼저 추가된 행을 잠근 뒤 갱신
+    private StoreRating lock(UUID storeId) {
+        return storeRatingRepository.findByIdForUpdate(storeId)
+                .orElseGet(() -> {
+                    storeRatingRepository.insertIfAbsent(rebuild(storeId));
+                    return storeRatingRepository.findByIdForUpdate(storeId)
+                            .orElseThrow(() -> new IllegalStateException("가게 평점 집계를 만들지 못했습니다: " + storeId));
+                });
+    }
+
+    // 현재 DB 의 삭제되지 않은 리뷰로 집계 계산
+    private StoreRating rebuild(UUID storeId) {
+        StoreRating rating = StoreRating.empty(storeId);
+        reviewRepository.findActiveScoresByStoreId(storeId).forEach(rating::addScore);
+        return rating;
+    }
+}
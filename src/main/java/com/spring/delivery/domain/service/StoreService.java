@@ -1,16 +1,24 @@
 package com.spring.delivery.domain.service;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
 import com.spring.delivery.domain.controller.dto.store.*;
 import com.spring.delivery.domain.domain.entity.Category;
 import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.entity.StoreCategory;
+import com.spring.delivery.domain.domain.entity.StoreRating;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
 import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.service.cache.StoreDetailCache;
+import com.spring.delivery.domain.service.search.StoreSearchEngine;
+import com.spring.delivery.global.pagination.Cursor;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,13 +40,23 @@ public class StoreService {
     private final UserRepository userRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final CategoryRepository categoryRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreSearchEngine storeSearchEngine;
+    private final StoreRatingService storeRatingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StoreService(StoreRepository storeRepository, UserRepository userRepository,
-                        StoreCategoryRepository storeCategoryRepository, CategoryRepository categoryRepository) {
+                        StoreCategoryRepository storeCategoryRepository, CategoryRepository categoryRepository,
+                        StoreDetailCache storeDetailCache, StoreSearchEngine storeSearchEngine,
+                        StoreRatingService storeRatingService, ApplicationEventPublisher eventPublisher) {
         this.storeRepository = storeRepository;
         this.userRepository = userRepository;
         this.storeCategoryRepository = storeCategoryRepository;
         this.categoryRepository = categoryRepository;
+        this.storeDetailCache = storeDetailCache;
+        this.storeSearchEngine = storeSearchEngine;
+        this.storeRatingService = storeRatingService;
+        this.eventPublisher = eventPublisher;
     }
 
     public ApiResponseDto createStore(UserDetailsImpl userDetails, StoreCreateRequestDto requestDto) {
@@ -81,6 +100,11 @@ public class StoreService {
         // 각 StoreCategory 객체 저장
         storeCategoryRepository.saveAll(storeCategories); // StoreCategoryRepository를 통해 저장
 
+        // 평점 집계 생성
+        storeRatingService.initialize(store.getId());
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
+
         // 성공적인 응답 반환
         return ApiResponseDto.success(store.getId());
     }
@@ -91,41 +115,58 @@ public class StoreService {
         Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        // 활성 상태의 스토어 목록 조회
-        Page<Store> storePage = storeRepository.findByDeletedAtIsNull(pageable); // 변경된 부분
-
-        // Store 객체를 StoreListResponseDto로 변환
-        Page<StoreListResponseDto> responseDtoPage = storePage.map(store -> {
-            List<String> categories = store.getStoreCategories().stream()
-                    .map(storeCategory -> storeCategory.getCategory().getName())
-                    .collect(Collectors.toList());
-
-            return new StoreListResponseDto(
-                    store.getId(),
-                    store.getName(),
-                    store.getAddress(),
-                    store.getTel(),
-                    store.isOpenStatus(),
-                    categories,
-                    store.getStartTime(),
-                    store.getEndTime()
-            );
-        });
+        // 활성 상태의 스토어 목록 조회 (삭제된 가게는 soft delete 필터가 제외)
+        Page<Store> storePage = storeRepository.findAll(pageable);
 
         // ApiResponseDto로 응답 반환
-        return ApiResponseDto.success(responseDtoPage);
+        return ApiResponseDto.success(toStoreListPage(storePage));
     }
 
+    // 커서 기반 가게 목록 조회 (최신순, count 쿼리는 withTotal 일 때만)
     @Transactional(readOnly = true)
+    public ApiResponseDto<CursorPageResponseDto<StoreListResponseDto>> getStoresByCursor(String cursor, int size, boolean withTotal) {
+        Cursor.checkSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Store> stores = after == null
+                ? storeRepository.findFirstPage(limit)
+                : storeRepository.findNextPage(after.createdAt(), after.id(), limit);
+
+        List<UUID> storeIds = stores.stream()
+                .limit(size)
+                .map(Store::getId)
+                .toList();
+        Map<UUID, List<String>> categoriesByStore = findCategoryNames(storeIds);
+        Map<UUID, StoreRating> ratingsByStore = storeRatingService.getRatings(storeIds);
+        Long total = withTotal ? storeRepository.count() : null;
+
+        return ApiResponseDto.success(CursorPageResponseDto.of(
+                stores,
+                size,
+                store -> new Cursor(store.getCreatedAt(), store.getId()),
+                store -> toStoreListResponse(store, categoriesByStore, ratingsByStore),
+                total
+        ));
+    }
+
+    // 캐시 히트 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
     public ApiResponseDto<StoreDetailResponseDto> getStoreById(UUID id) {
+        StoreDetailResponseDto responseDto = storeDetailCache.get(id, this::loadStoreDetail);
+
+        return ApiResponseDto.success(responseDto);
+    }
+
+    private StoreDetailResponseDto loadStoreDetail(UUID id) {
         Store store = storeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 가게 ID입니다."));
 
-        List<String> categories = store.getStoreCategories().stream()
-                .map(storeCategory -> storeCategory.getCategory().getName())
-                .collect(Collectors.toList());
+        List<String> categories = findCategoryNames(List.of(store.getId()))
+                .getOrDefault(store.getId(), List.of());
+        StoreRating rating = storeRatingService.getRating(store.getId());
 
-        StoreDetailResponseDto responseDto = new StoreDetailResponseDto(
+        return new StoreDetailResponseDto(
                 store.getId(),
                 store.getName(),
                 store.getAddress(),
@@ -133,10 +174,11 @@ public class StoreService {
                 store.isOpenStatus(),
                 store.getStartTime(), // 시작 시간
                 store.getEndTime(),   // 종료 시간
-                categories
+                List.copyOf(categories),
+                rating.getAverageRating(),
+                rating.getReviewCount(),
+                rating.getHistogram()
         );
-
-        return ApiResponseDto.success(responseDto);
     }
 
     @Transactional
@@ -197,6 +239,8 @@ public class StoreService {
                 store.getEndTime()
         );
 
+        eventPublisher.publishEvent(new StoreChangedEvent(storeId));
+
         return ApiResponseDto.success(responseDto);
     }
 
@@ -229,6 +273,8 @@ public class StoreService {
         // 스토어 소프트 삭제
         store.delete(userDetails.getUsername());
 
+        eventPublisher.publishEvent(new StoreChangedEvent(storeId));
+
         // 성공적인 응답 반환
         return ApiResponseDto.success("가게가 성공적으로 삭제되었습니다.");
     }
@@ -250,30 +296,54 @@ public class StoreService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        // 검색 수행
-        Page<Store> storePage = storeRepository.searchStores(query, pageable);
-
-        // Store 객체를 StoreListResponseDto로 변환
-        Page<StoreListResponseDto> responseDtoPage = storePage.map(store -> {
-            // 카테고리 처리
-            List<String> categories = store.getStoreCategories().stream()
-                    .map(storeCategory -> storeCategory.getCategory().getName())
-                    .collect(Collectors.toList());
-
-            return new StoreListResponseDto(
-                    store.getId(),
-                    store.getName(),
-                    store.getAddress(),
-                    store.getTel(),
-                    store.isOpenStatus(),
-                    categories,
-                    store.getStartTime(),
-                    store.getEndTime()
-            );
-        });
+        // 검색 수행 (store.search.mode 설정에 따라 LIKE 또는 n-gram 인덱스)
+        Page<Store> storePage = storeSearchEngine.search(query, pageable);
 
         // ApiResponseDto로 응답 반환
-        return ApiResponseDto.success(responseDtoPage);
+        return ApiResponseDto.success(toStoreListPage(storePage));
+    }
+
+    // Store 페이지를 StoreListResponseDto 페이지로 변환 (카테고리, 평점은 각각 한 번의 쿼리로 일괄 조회)
+    private Page<StoreListResponseDto> toStoreListPage(Page<Store> storePage) {
+        List<UUID> storeIds = storePage.getContent().stream()
+                .map(Store::getId)
+                .toList();
+
+        Map<UUID, List<String>> categoriesByStore = findCategoryNames(storeIds);
+        Map<UUID, StoreRating> ratingsByStore = storeRatingService.getRatings(storeIds);
+
+        return storePage.map(store -> toStoreListResponse(store, categoriesByStore, ratingsByStore));
+    }
+
+    private StoreListResponseDto toStoreListResponse(Store store, Map<UUID, List<String>> categoriesByStore,
+                                                     Map<UUID, StoreRating> ratingsByStore) {
+        StoreRating rating = ratingsByStore.getOrDefault(store.getId(), StoreRating.empty(store.getId()));
+
+        return new StoreListResponseDto(
+                store.getId(),
+                store.getName(),
+                store.getAddress(),
+                store.getTel(),
+                store.isOpenStatus(),
+                categoriesByStore.getOrDefault(store.getId(), List.of()),
+                store.getStartTime(),
+                store.getEndTime(),
+                rating.getAverageRating(),
+                rating.getReviewCount()
+        );
+    }
+
+    // 가게 ID 목록으로 가게별 카테고리 이름 조회
+    private Map<UUID, List<String>> findCategoryNames(List<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return storeCategoryRepository.findCategoryNamesByStoreIds(storeIds).stream()
+                .collect(Collectors.groupingBy(
+                        StoreCategoryRepository.StoreCategoryName::getStoreId,
+                        Collectors.mapping(StoreCategoryRepository.StoreCategoryName::getCategoryName, Collectors.toList())
+                ));
     }
 
 }
@@ -5,11 +5,15 @@ import com.spring.delivery.domain.controller.dto.user.UserUpdateRequestDto;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository.UserRow;
+import com.spring.delivery.domain.event.UserChangedEvent;
+import com.spring.delivery.global.persistence.SoftDeleteFilter;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import com.spring.delivery.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,23 +34,26 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoftDeleteFilter softDeleteFilter;
 
     @Value("${admin.token}")
     private String ADMIN_TOKEN;
 
+    @Transactional
     public User signup(SignUpRequestDto requestDto) {
         String username = requestDto.getUsername();
         String password = passwordEncoder.encode(requestDto.getPassword());
 
-        // 회원 중복 확인
-        Optional<User> checkUsername = userRepository.findByUsername(username);
+        // 회원 중복 확인 (username, email 은 unique 라 탈퇴한 회원까지 확인)
+        Optional<User> checkUsername = softDeleteFilter.includeDeleted(() -> userRepository.findByUsername(username));
         if (checkUsername.isPresent()) {
             throw new IllegalArgumentException("중복된 사용자가 존재합니다.");
         }
 
         // email 중복확인
         String email = requestDto.getEmail();
-        Optional<User> checkEmail = userRepository.findByEmail(email);
+        Optional<User> checkEmail = softDeleteFilter.includeDeleted(() -> userRepository.findByEmail(email));
         if (checkEmail.isPresent()) {
             throw new IllegalArgumentException("중복된 Email 입니다.");
         }
@@ -114,16 +121,16 @@ public class UserService {
 
         //TODO: username 변경 시, Jwt 를 새로 발급해 주던지, 로그아웃 시키고, 로그인하도록 해야함. => 지금은 client가 없으므로, Jwt를 새로 발급해줘야 할 듯.
 
-        // username, email 중복 확인
+        // username, email 중복 확인 (탈퇴한 회원 포함)
         if (StringUtils.hasText(requestDto.getUsername()) && !user.getUsername().equals(requestDto.getUsername())) {
-            Optional<User> userFindByUsername = userRepository.findByUsername(requestDto.getUsername());
+            Optional<User> userFindByUsername = softDeleteFilter.includeDeleted(() -> userRepository.findByUsername(requestDto.getUsername()));
             if (userFindByUsername.isPresent()) {
                 throw new IllegalArgumentException("이미 존재하는 username입니다.");
             }
         }
 
         if (StringUtils.hasText(requestDto.getEmail()) && !user.getEmail().equals(requestDto.getEmail())) {
-            Optional<User> userFindByEmail = userRepository.findByEmail(requestDto.getEmail());
+            Optional<User> userFindByEmail = softDeleteFilter.includeDeleted(() -> userRepository.findByEmail(requestDto.getEmail()));
             if (userFindByEmail.isPresent()) {
                 throw new IllegalArgumentException("이미 존재하는 email입니다.");
             }
@@ -138,6 +145,9 @@ public class UserService {
             newPassword = passwordEncoder.encode(requestDto.getNewPassword());
         }
 
+        // 변경 전 username 으로 인증 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+
         // 유저 정보 업데이트
         user.updateUser(
                 requestDto.getUsername(),
@@ -174,11 +184,13 @@ public class UserService {
 
         //삭제
         user.delete(currentUsername); // 삭제한 사람: 로그인한 사용자
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
 
         return user;
     }
 
-    public Page<User> searchUsers(UserDetailsImpl userDetails, int page, int size, String username) {
+    @Transactional(readOnly = true)
+    public Page<UserRow> searchUsers(UserDetailsImpl userDetails, int page, int size, String username) {
         //관리자 권한 확인(MANAGER, MASTER)
         if(userDetails.getUser().getRole() != Role.MANAGER && 
                 userDetails.getUser().getRole() != Role.MASTER
@@ -191,12 +203,13 @@ public class UserService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // TODO:QueryDSL 도입해서 검색 형식 변경
+        // 관리자 조회라 탈퇴한 회원도 포함 (응답의 deleted 로 구분)
         // username 포함한 유저 검색
         if (StringUtils.hasText(username)) {
-            Page<User> userList = userRepository.findAllByUsernameContains(username, pageable);
+            Page<UserRow> userList = softDeleteFilter.includeDeleted(() -> userRepository.findRowsByUsernameContains(username, pageable));
             return userList;
         }
-        Page<User> userList = userRepository.findAll(pageable);
+        Page<UserRow> userList = softDeleteFilter.includeDeleted(() -> userRepository.findAllRows(pageable));
         return userList;
     }
 }
@@ -0,0 +1,103 @@
+package com.spring.delivery.domain.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.event.MenuChangedEvent;
+import com.spring.delivery.global.cache.KeyVersions;
+import com.spring.delivery.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 가게별 메뉴 목록/단건 조회 응답 캐시 (직렬화된 JSON 과 ETag 저장).
+ * 메뉴 목록은 가게별 버전을 키에 포함해서, 메뉴가 바뀌면 버전만 올려 그 가게의 모든 페이지를 한 번에 무효화한다.
+ * 메뉴 단건도 메뉴별 버전을 키에 포함해서, 변경 전에 시작된 조회가 무효화 이후에 이전 내용을 저장해도 다시 조회되지 않는다.
+ * (이전 버전 항목은 더 이상 조회되지 않고 LRU/TTL 로 정리됨, 버전도 캐시와 같은 최대 크기로 제한)
+ * 200 응답만 캐시하고, 404/500 등은 매번 새로 조회한다.
+ */
+@Component
+public class MenuCatalogCache {
+
+    private final ObjectMapper objectMapper;
+    private final LocalCache<PageKey, Payload> pages;
+    private final LocalCache<DetailKey, Payload> details;
+    private final KeyVersions<UUID> storeVersions;
+    private final KeyVersions<UUID> menuVersions;
+
+    // 직렬화된 응답 본문과 ETag (본문 해시라 서버 재시작 후에도 같은 내용이면 같은 값)
+    public record Payload(int status, byte[] body, String etag) {
+    }
+
+    private record PageKey(UUID storeId, long version, int page, int size, String sort, String order) {
+    }
+
+    private record DetailKey(UUID menuId, long version) {
+    }
+
+    public MenuCatalogCache(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.menu-catalog.max-size:10000}") int maxSize,
+                            @Value("${cache.menu-catalog.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.pages = new LocalCache<PageKey, Payload>("menu-catalog", maxSize, ttl).bindTo(meterRegistry);
+        this.details = new LocalCache<DetailKey, Payload>("menu-detail", maxSize, ttl).bindTo(meterRegistry);
+        this.storeVersions = new KeyVersions<>(maxSize);
+        this.menuVersions = new KeyVersions<>(maxSize);
+    }
+
+    public Payload getMenuPage(UUID storeId, int page, int size, String sort, String order, Supplier<ApiResponseDto<?>> loader) {
+        // 버전은 조회 전에 읽어야, 조회 중 메뉴가 바뀌어도 이전 버전 키로만 저장됨
+        PageKey key = new PageKey(storeId, storeVersions.get(storeId), page, size, sort, order.toLowerCase());
+
+        Payload cached = pages.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Payload loaded = serialize(loader.get());
+        if (loaded.status() == 200) {
+            pages.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public Payload getMenuDetail(UUID menuId, Supplier<ApiResponseDto<?>> loader) {
+        // 목록과 같이 버전은 조회 전에 읽음
+        DetailKey key = new DetailKey(menuId, menuVersions.get(menuId));
+
+        Payload cached = details.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Payload loaded = serialize(loader.get());
+        if (loaded.status() == 200) {
+            details.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    // 커밋 이후에 무효화해야 커밋 전 데이터가 다시 캐시되지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        storeVersions.bump(event.getStoreId());
+        menuVersions.bump(event.getMenuId());
+    }
+
+    private Payload serialize(ApiResponseDto<?> responseDto) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(responseDto);
+            return new Payload(responseDto.getStatus(), body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 응답 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.delivery.domain.service.cache;
+
+import com.spring.delivery.domain.controller.dto.store.StoreDetailResponseDto;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.event.StoreRatingChangedEvent;
+import com.spring.delivery.global.cache.KeyVersions;
+import com.spring.delivery.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 가게 단건 조회(GET /api/stores/{id}) 응답 캐시.
+ * 가게별 버전을 키에 포함해서, 변경 전에 시작된 조회가 무효화 이후에 이전 내용을 저장해도 다시 조회되지 않는다.
+ * (이전 버전 항목은 더 이상 조회되지 않고 LRU/TTL 로 정리됨)
+ */
+@Component
+public class StoreDetailCache {
+
+    private final LocalCache<DetailKey, StoreDetailResponseDto> cache;
+    private final KeyVersions<UUID> versions;
+
+    private record DetailKey(UUID storeId, long version) {
+    }
+
+    public StoreDetailCache(MeterRegistry meterRegistry,
+                            @Value("${cache.store-detail.max-size:10000}") int maxSize,
+                            @Value("${cache.store-detail.ttl:60s}") Duration ttl) {
+        this.cache = new LocalCache<DetailKey, StoreDetailResponseDto>("store-detail", maxSize, ttl).bindTo(meterRegistry);
+        this.versions = new KeyVersions<>(maxSize);
+    }
+
+    public StoreDetailResponseDto get(UUID storeId, Function<UUID, StoreDetailResponseDto> loader) {
+        // 버전은 조회 전에 읽어야, 조회 중 가게가 바뀌어도 이전 버전 키로만 저장됨
+        return cache.get(new DetailKey(storeId, versions.get(storeId)), key -> loader.apply(key.storeId()));
+    }
+
+    // 커밋 이후에 버전을 올려야 커밋 전 데이터가 새 버전 키로 저장되지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        versions.bump(event.getStoreId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreRatingChanged(StoreRatingChangedEvent event) {
+        versions.bump(event.getStoreId());
+    }
+
+    // 카테고리는 여러 가게에 걸쳐 있으므로 전체 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        versions.bumpAll();
+    }
+}
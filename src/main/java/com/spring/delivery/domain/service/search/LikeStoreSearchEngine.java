@@ -0,0 +1,24 @@
+package com.spring.delivery.domain.service.search;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "store.search.mode", havingValue = "like", matchIfMissing = true)
+public class LikeStoreSearchEngine implements StoreSearchEngine {
+
+    private final StoreRepository storeRepository;
+
+    public LikeStoreSearchEngine(StoreRepository storeRepository) {
+        this.storeRepository = storeRepository;
+    }
+
+    @Override
+    public Page<Store> search(String query, Pageable pageable) {
+        return storeRepository.searchStores(query, pageable);
+    }
+}
@@ -0,0 +1,92 @@
+package com.spring.delivery.domain.service.search;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.global.search.NgramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "store.search.mode", havingValue = "ngram")
+public class NgramStoreSearchEngine implements StoreSearchEngine {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final StoreRepository storeRepository;
+    private final NgramIndex<UUID> index = new NgramIndex<>();
+
+    public NgramStoreSearchEngine(StoreRepository storeRepository) {
+        this.storeRepository = storeRepository;
+    }
+
+    // 애플리케이션 시작 시 삭제되지 않은 가게로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Slice<Store> slice;
+        do {
+            slice = storeRepository.findSliceBy(pageable);
+            slice.forEach(this::index);
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.info("가게 검색 인덱스 구성 완료: {}건", index.size());
+    }
+
+    // 가게 생성/수정/삭제가 커밋된 뒤 인덱스 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        storeRepository.findById(event.getStoreId())
+                .filter(store -> store.getDeletedAt() == null)
+                .ifPresentOrElse(this::index, () -> index.remove(event.getStoreId()));
+    }
+
+    @Override
+    public Page<Store> search(String query, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.desc("createdAt"));
+
+        NgramIndex.SearchResult<UUID> result = index.search(
+                query,
+                null,
+                NgramIndex.SortField.from(order.getProperty()),
+                order.isAscending(),
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+
+        // 인덱스가 정한 순서대로 가게 조회
+        Map<UUID, Store> stores = storeRepository.findAllById(result.keys()).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        List<Store> content = result.keys().stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    // 값이 없는 필드는 제외 (문자열 "null" 로 색인되어 검색어 "null" 에 걸리지 않도록)
+    private void index(Store store) {
+        String text = Stream.of(store.getName(), store.getAddress(), store.getTel())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(String.valueOf(NgramIndex.FIELD_SEPARATOR)));
+        index.put(store.getId(), null, text, store.getCreatedAt(), store.getUpdatedAt());
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.delivery.domain.service.search;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 가게 검색 방식 (store.search.mode 로 선택)
+ * - like  : DB LIKE '%q%' 검색 (기본값)
+ * - ngram : 메모리 내 3-gram 역색인 검색
+ */
+public interface StoreSearchEngine {
+
+    // 이름, 주소, 전화번호 중 하나라도 query 를 포함하는 (삭제되지 않은) 가게 조회
+    Page<Store> search(String query, Pageable pageable);
+}
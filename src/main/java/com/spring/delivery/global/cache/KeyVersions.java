@@ -0,0 +1,57 @@
+package com.spring.delivery.global.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시 키에 포함할 키별 버전.
+ * 조회 전에 버전을 읽어 (키, 버전)으로 저장하면, 조회 중에 변경이 커밋되어 버전이 올라간 경우
+ * 이전 내용은 이전 버전 키로만 저장되고 이후 요청에서 사용되지 않는다 (evict 후 다시 저장되는 문제 방지).
+ * 버전은 전체에서 하나씩 증가하는 값이고, 크기 제한(maxSize)을 넘으면 가장 오래전에 바뀐 키의 버전부터 지운다.
+ * 지운 버전 중 가장 큰 값을 floor 로 두고 버전이 없는 키는 floor 를 사용하므로, 지워진 키의 버전도 줄어들지 않는다.
+ */
+public class KeyVersions<K> {
+
+    private final int maxSize;
+
+    // 삽입 순서 = 변경 순서 (변경 시 지우고 다시 넣어 맨 뒤로 보냄), 앞쪽일수록 버전이 작음
+    private final LinkedHashMap<K, Long> versions = new LinkedHashMap<>();
+    private long clock;
+    private long floor;
+
+    public KeyVersions(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    // 현재 버전 (조회 전에 읽어서 캐시 키에 포함)
+    public synchronized long get(K key) {
+        Long version = versions.get(key);
+        return version == null ? floor : version;
+    }
+
+    // 키의 버전을 올림 (이전 버전으로 저장된 항목은 더 이상 조회되지 않음)
+    public synchronized void bump(K key) {
+        versions.remove(key);
+        versions.put(key, ++clock);
+
+        Iterator<Map.Entry<K, Long>> iterator = versions.entrySet().iterator();
+        while (versions.size() > maxSize) {
+            floor = iterator.next().getValue();
+            iterator.remove();
+        }
+    }
+
+    // 모든 키의 버전을 올림
+    public synchronized void bumpAll() {
+        versions.clear();
+        floor = ++clock;
+    }
+
+    public synchronized int size() {
+        return versions.size();
+    }
+}
@@ -1,9 +1,12 @@
 package com.spring.delivery.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.delivery.global.filter.JwtAuthenticationFilter;
 import com.spring.delivery.global.filter.JwtAuthorizationFilter;
 import com.spring.delivery.global.security.UserDetailsServiceImpl;
+import com.spring.delivery.global.security.UserPrincipalCache;
 import com.spring.delivery.global.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,11 +31,16 @@ public class SecurityConfig{
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ObjectMapper objectMapper;
 
-    public SecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration) {
+    public SecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration,
+                          UserPrincipalCache userPrincipalCache, ObjectMapper objectMapper) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.authenticationConfiguration = authenticationConfiguration;
+        this.userPrincipalCache = userPrincipalCache;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
@@ -42,14 +50,14 @@ public class SecurityConfig{
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, objectMapper);
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         return filter;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, userPrincipalCache, objectMapper);
     }
 
     @Bean
@@ -63,6 +71,7 @@ public class SecurityConfig{
         );
 
         http.authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답(Mono) 재디스패치 허용 (최초 요청에서 이미 인가됨)
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources 접근 허용
                 .requestMatchers("/test", "/rap", "/tab").permitAll()
                 .requestMatchers("/api/user/signUp", "/api/user/signIn").permitAll() // 로그인, 회원가입 요청 접근 허용
@@ -1,6 +1,8 @@
 package com.spring.delivery.global.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.user.SignInRequestDto;
 import com.spring.delivery.domain.controller.dto.user.SignInResponseDto;
@@ -22,9 +24,14 @@ import java.io.IOException;
 @Slf4j(topic = "로그인 및 JWT 생성")
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private final JwtUtil jwtUtil;
+    // 공용 ObjectMapper 에서 미리 만들어 둔 reader/writer (요청마다 ObjectMapper 생성 방지)
+    private final ObjectReader signInRequestReader;
+    private final ObjectWriter responseWriter;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, ObjectMapper objectMapper) {
         this.jwtUtil = jwtUtil;
+        this.signInRequestReader = objectMapper.readerFor(SignInRequestDto.class);
+        this.responseWriter = objectMapper.writerFor(ApiResponseDto.class);
         setFilterProcessesUrl("/api/user/signIn");
     }
 
@@ -32,7 +39,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         log.info("로그인 시도");
         try {
-            SignInRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SignInRequestDto.class);
+            SignInRequestDto requestDto = signInRequestReader.readValue(request.getInputStream());
 
             return getAuthenticationManager().authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -62,7 +69,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
-        new ObjectMapper().writeValue(response.getWriter(), responseBody);
+        responseWriter.writeValue(response.getWriter(), responseBody);
     }
 
     @Override
@@ -75,6 +82,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         response.setCharacterEncoding("UTF-8");
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
-        new ObjectMapper().writeValue(response.getWriter(), responseBody);
+        responseWriter.writeValue(response.getWriter(), responseBody);
     }
 }
@@ -1,8 +1,10 @@
 package com.spring.delivery.global.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.global.security.UserDetailsServiceImpl;
+import com.spring.delivery.global.security.UserPrincipalCache;
 import com.spring.delivery.global.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -19,16 +21,22 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j(topic = "JWT 검증 및 인가")
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ObjectWriter responseWriter;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, UserPrincipalCache userPrincipalCache,
+                                  ObjectMapper objectMapper) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.responseWriter = objectMapper.writerFor(ApiResponseDto.class);
     }
 
     @Override
@@ -41,30 +49,31 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             tokenValue = jwtUtil.substringToken(tokenValue);
             log.info(tokenValue);
 
-            if (!jwtUtil.validateToken(tokenValue)) {
+            // 서명 검증과 claims 추출을 한 번에 처리
+            Optional<Claims> claims = jwtUtil.parseClaims(tokenValue);
+
+            if (claims.isEmpty()) {
 
                 log.error("Token Error");
                 // 401 Unauthorized 응답 반환
                 res.setContentType("application/json");
                 res.setCharacterEncoding("UTF-8");
                 res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                new ObjectMapper().writeValue(res.getWriter(),
+                responseWriter.writeValue(res.getWriter(),
                         ApiResponseDto.fail(401, "유효하지 않은 토큰입니다.")
                 );
                 return;
             }
 
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-
             try {
-                setAuthentication(info.getSubject());
+                setAuthentication(claims.get().getSubject());
             } catch (Exception e) {
                 log.error(e.getMessage());
                 // 401 Unauthorized 응답 반환 (인증 실패)
                 res.setContentType("application/json");
                 res.setCharacterEncoding("UTF-8");
                 res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                new ObjectMapper().writeValue(res.getWriter(),
+                responseWriter.writeValue(res.getWriter(),
                         ApiResponseDto.fail(401, "인증에 실패하였습니다.")
                 );
                 return;
@@ -85,9 +94,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         SecurityContextHolder.setContext(context);
     }
 
-    // 인증 객체 생성
+    // 인증 객체 생성 (캐시에 없을 때만 DB 조회)
     private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails = userPrincipalCache.get(username, userDetailsService::loadUserByUsername);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.spring.delivery.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 커서 기반(keyset) 페이징의 위치 정보.
+ * 마지막으로 내려준 행의 (createdAt, id) 를 base64url 문자열로 감싸 클라이언트에 전달한다.
+ */
+public record Cursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+    private static final Set<Integer> PAGE_SIZES = Set.of(10, 30, 50);
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청으로 보고 null 반환
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    // 페이지 크기 확인 (offset 페이징과 같은 10, 30, 50 만 허용, 조회 전에 호출)
+    public static int checkSize(int size) {
+        if (!PAGE_SIZES.contains(size)) {
+            throw new IllegalArgumentException("size 는 10, 30, 50 중 하나여야 합니다.");
+        }
+        return size;
+    }
+}
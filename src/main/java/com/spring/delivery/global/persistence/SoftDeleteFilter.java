@@ -0,0 +1,41 @@
+package com.spring.delivery.global.persistence;
+
+import com.spring.delivery.domain.domain.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * soft delete 필터(BaseEntity.NOT_DELETED_FILTER) 제어.
+ * 필터는 모든 세션에서 자동으로 켜져 있고, 삭제된 행까지 봐야 하는 관리자/감사용 조회나
+ * 삭제된 행을 포함한 중복 검사에서만 includeDeleted 로 잠시 끈다.
+ * 필터는 세션 단위라 호출 측 트랜잭션 안에서만 사용할 수 있다.
+ */
+@Component
+public class SoftDeleteFilter {
+
+    private final EntityManager entityManager;
+
+    public SoftDeleteFilter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // 삭제된 행을 포함해서 조회 (끝나면 필터를 원래 상태로 되돌림)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> T includeDeleted(Supplier<T> query) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean enabled = session.getEnabledFilter(BaseEntity.NOT_DELETED_FILTER) != null;
+        session.disableFilter(BaseEntity.NOT_DELETED_FILTER);
+        try {
+            return query.get();
+        } finally {
+            if (enabled) {
+                session.enableFilter(BaseEntity.NOT_DELETED_FILTER);
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.spring.delivery.global.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 3-gram 역색인 기반의 부분 문자열 검색 인덱스 (LIKE '%q%' 대체용).
+ * 문서마다 내부 번호를 증가 순으로 부여하므로 posting 목록은 항상 정렬된 상태로 append 된다.
+ * 삭제/수정된 문서의 번호는 posting 에 남겨두고, 죽은 문서가 일정 비율을 넘으면 한 번에 재구성한다.
+ */
+public class NgramIndex<K> {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int MIN_COMPACT_SIZE = 1024;
+
+    // 필드 사이 구분자 (검색어에 포함될 수 없는 문자라 필드를 넘나드는 매칭이 생기지 않음)
+    public static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Integer> docIdByKey = new HashMap<>();
+    private final List<Document<K>> documents = new ArrayList<>();
+    private Map<String, IntList> postings = new HashMap<>();
+    private int deadCount;
+
+    public enum SortField {
+        CREATED_AT, UPDATED_AT;
+
+        public static SortField from(String property) {
+            return "updatedAt".equals(property) ? UPDATED_AT : CREATED_AT;
+        }
+    }
+
+    public record SearchResult<K>(List<K> keys, long total) {
+    }
+
+    // 문서 추가 또는 교체
+    public void put(K key, UUID groupId, String text, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Document<K> document = new Document<>(key, groupId, normalize(text), toEpochNanos(createdAt), toEpochNanos(updatedAt));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+
+            int docId = documents.size();
+            documents.add(document);
+            docIdByKey.put(key, docId);
+            for (String gram : grams(document.text())) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(docId);
+            }
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docIdByKey.clear();
+            documents.clear();
+            postings = new HashMap<>();
+            deadCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서를 정렬 기준에 맞춰 페이지 단위로 반환한다.
+     * groupId 가 null 이 아니면 해당 그룹(예: 가게)의 문서만 대상으로 한다.
+     */
+    public SearchResult<K> search(String query, UUID groupId, SortField sortField, boolean asc, long offset, int limit) {
+        String normalized = normalize(query);
+
+        List<Document<K>> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < GRAM_SIZE) {
+                // 3글자 미만은 n-gram 이 없으므로 메모리 내 전체 스캔
+                for (Document<K> document : documents) {
+                    if (matches(document, normalized, groupId)) {
+                        matches.add(document);
+                    }
+                }
+            } else {
+                for (int docId : candidates(normalized)) {
+                    Document<K> document = documents.get(docId);
+                    if (matches(document, normalized, groupId)) {
+                        matches.add(document);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Document<K>> comparator = Comparator.comparingLong(
+                sortField == SortField.UPDATED_AT ? Document::updatedAt : Document::createdAt);
+        matches.sort(asc ? comparator : comparator.reversed());
+
+        int from = (int) Math.min(offset, matches.size());
+        int to = (int) Math.min((long) from + limit, matches.size());
+        List<K> keys = matches.subList(from, to).stream()
+                .map(Document::key)
+                .toList();
+
+        return new SearchResult<>(keys, matches.size());
+    }
+
+    // 검색어의 모든 3-gram 을 포함하는 문서 번호 (posting 교집합, 짧은 목록부터)
+    private int[] candidates(String query) {
+        List<IntList> lists = new ArrayList<>();
+        for (String gram : new LinkedHashSet<>(grams(query))) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+
+        IntList smallest = lists.get(0);
+        int[] result = new int[smallest.size()];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size(); i++) {
+            int docId = smallest.get(i);
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(docId)) {
+                    continue outer;
+                }
+            }
+            result[count++] = docId;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private boolean matches(Document<K> document, String query, UUID groupId) {
+        return document != null
+                && (groupId == null || groupId.equals(document.groupId()))
+                && document.text().contains(query);
+    }
+
+    private void removeInternal(K key) {
+        Integer docId = docIdByKey.remove(key);
+        if (docId != null) {
+            documents.set(docId, null);
+            deadCount++;
+        }
+    }
+
+    // 죽은 문서가 살아있는 문서보다 많아지면 번호를 다시 매겨 posting 을 재구성
+    private void compactIfNeeded() {
+        if (deadCount < MIN_COMPACT_SIZE || deadCount < docIdByKey.size()) {
+            return;
+        }
+
+        List<Document<K>> live = documents.stream().filter(Objects::nonNull).toList();
+        documents.clear();
+        docIdByKey.clear();
+        postings = new HashMap<>();
+        deadCount = 0;
+
+        for (Document<K> document : live) {
+            int docId = documents.size();
+            documents.add(document);
+            docIdByKey.put(document.key(), docId);
+            for (String gram : grams(document.text())) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(docId);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Long.MIN_VALUE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private record Document<K>(K key, UUID groupId, String text, long createdAt, long updatedAt) {
+    }
+
+    // 정렬된 int 목록 (boxing 없이 posting 저장)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.spring.delivery.global.security;
+
+import com.spring.delivery.domain.event.UserChangedEvent;
+import com.spring.delivery.global.cache.KeyVersions;
+import com.spring.delivery.global.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인가 필터에서 사용하는 인증 사용자 캐시 (username -> UserDetails).
+ * 요청마다 p_users 를 조회하지 않도록 짧은 TTL 동안 보관하고, 유저 수정/삭제 커밋 후 즉시 무효화한다.
+ * username 별 버전을 키에 포함해서, 수정/삭제 커밋 전에 시작된 조회가 무효화 이후에 이전 정보를 저장해도
+ * 다시 사용되지 않는다 (삭제/변경된 사용자가 TTL 동안 이전 권한으로 인증되는 문제 방지).
+ * cache.user-principal.enabled=false 이면 매 요청 DB 조회 (기존 동작)
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final boolean enabled;
+    private final LocalCache<PrincipalKey, UserDetails> cache;
+    private final KeyVersions<String> versions;
+
+    private record PrincipalKey(String username, long version) {
+    }
+
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${cache.user-principal.enabled:true}") boolean enabled,
+                              @Value("${cache.user-principal.max-size:10000}") int maxSize,
+                              @Value("${cache.user-principal.ttl:30s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = new LocalCache<PrincipalKey, UserDetails>("user-principal", maxSize, ttl).bindTo(meterRegistry);
+        this.versions = new KeyVersions<>(maxSize);
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        // 버전은 조회 전에 읽어야, 조회 중 유저가 바뀌어도 이전 버전 키로만 저장됨
+        return cache.get(new PrincipalKey(username, versions.get(username)), key -> loader.apply(key.username()));
+    }
+
+    // 커밋 이후에 버전을 올려야 커밋 전 정보가 새 버전 키로 저장되지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.bump(event.getUsername());
+    }
+}
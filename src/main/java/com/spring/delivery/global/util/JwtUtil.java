@@ -14,6 +14,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -29,6 +30,8 @@ public class JwtUtil {
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
     private Key key;
+    // 서명 키가 설정된 파서 (thread-safe, 요청마다 새로 만들지 않음)
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     // 로그 설정
@@ -38,6 +41,7 @@ public class JwtUtil {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
@@ -63,12 +67,11 @@ public class JwtUtil {
         throw new NullPointerException("Not Found Token");
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token) {
+    // 토큰 검증 + 사용자 정보 추출 (서명 검증 1회, 검증 실패 시 empty)
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             logger.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
             logger.error("Expired JWT token, 만료된 JWT token 입니다.");
@@ -76,13 +79,20 @@ public class JwtUtil {
             logger.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+        } catch (JwtException e) {
+            logger.error("Invalid JWT token, 유효하지 않은 JWT 토큰 입니다.");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    // 토큰 검증
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
     }
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public String getTokenFromRequest(HttpServletRequest request) {
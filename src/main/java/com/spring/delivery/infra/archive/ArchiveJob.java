@@ -0,0 +1,161 @@
+package com.spring.delivery.infra.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 보관 기간(retention)이 지난 행을 *_archive 테이블로 옮기는 작업.
+ * 대상 : 삭제된 리뷰/AI 추천 내역/메뉴 주문, 삭제되었거나 완료 상태로 오래 지난 주문(메뉴 주문, 결제 포함)
+ * 테이블마다 batch-size 건씩 별도 트랜잭션으로 옮기고, 한 번 실행에 max-batches 까지만 처리한다.
+ * 리뷰가 남아있는 주문은 옮기지 않음 (리뷰를 먼저 보관하므로 리뷰가 삭제되어 보관되면 다음 실행에서 옮겨짐)
+ * 지표 : archive.rows (table 태그), archive.run
+ */
+@Slf4j
+@Component
+public class ArchiveJob {
+
+    private static final Table ORDER = new Table("p_order",
+            "id, user_id, order_status, order_type, total_price, address, " +
+                    "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by");
+    private static final Table MENU_ORDER = new Table("p_menu_order",
+            "id, order_id, menu_id, amount, " +
+                    "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by");
+    private static final Table PAYMENT = new Table("p_payment",
+            "id, order_id, cardnumber, payments_status, " +
+                    "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by");
+    private static final Table REVIEW = new Table("p_review",
+            "id, order_id, store_id, user_id, score, contents, " +
+                    "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by");
+    private static final Table GEMINI = new Table("p_gemini",
+            "id, store_id, request_text, response_text, " +
+                    "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final List<String> completedOrderStatuses;
+    private final int batchSize;
+    private final int maxBatches;
+
+    // 보관 대상 테이블 (원본과 같은 컬럼에 archived_at 추가)
+    private record Table(String name, String columns) {
+
+        String insertSql(String keyColumn) {
+            return "INSERT INTO " + name + "_archive (" + columns + ", archived_at) " +
+                    "SELECT " + columns + ", :archivedAt FROM " + name + " WHERE " + keyColumn + " IN (:ids)";
+        }
+
+        String deleteSql(String keyColumn) {
+            return "DELETE FROM " + name + " WHERE " + keyColumn + " IN (:ids)";
+        }
+    }
+
+    public ArchiveJob(NamedParameterJdbcTemplate jdbcTemplate,
+                      TransactionTemplate transactionTemplate,
+                      MeterRegistry meterRegistry,
+                      @Value("${archive.retention:90d}") Duration retention,
+                      @Value("${archive.completed-order-statuses:COMPLETED}") List<String> completedOrderStatuses,
+                      @Value("${archive.batch-size:500}") int batchSize,
+                      @Value("${archive.max-batches:200}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.completedOrderStatuses = completedOrderStatuses;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void run() {
+        Map<String, Long> moved = meterRegistry.timer("archive.run")
+                .record(() -> archive(LocalDateTime.now().minus(retention)));
+        log.info("보관 작업 완료: {}", moved);
+    }
+
+    // horizon 이전에 삭제(또는 완료)된 행을 보관 테이블로 이동, 테이블별 이동 건수 반환
+    public Map<String, Long> archive(LocalDateTime horizon) {
+        Map<String, Long> moved = new LinkedHashMap<>();
+        moved.put(REVIEW.name(), moveDeleted(REVIEW, horizon));
+        moved.put(GEMINI.name(), moveDeleted(GEMINI, horizon));
+        moved.put(MENU_ORDER.name(), moveDeleted(MENU_ORDER, horizon));
+        moved.put(ORDER.name(), moveOrders(horizon));
+        return moved;
+    }
+
+    private long moveDeleted(Table table, LocalDateTime horizon) {
+        String selectSql = "SELECT id FROM " + table.name() + " WHERE deleted_at < :horizon LIMIT :limit";
+        return moveInBatches(table, selectSql, horizon, ids -> {
+        });
+    }
+
+    // 주문은 메뉴 주문, 결제와 함께 이동
+    private long moveOrders(LocalDateTime horizon) {
+        String completed = completedOrderStatuses.isEmpty()
+                ? ""
+                : " OR (o.order_status IN (:statuses) AND o.updated_at < :horizon)";
+        String selectSql = "SELECT o.id FROM p_order o " +
+                "WHERE (o.deleted_at < :horizon" + completed + ") " +
+                "AND NOT EXISTS (SELECT 1 FROM p_review r WHERE r.order_id = o.id) " +
+                "LIMIT :limit";
+
+        return moveInBatches(ORDER, selectSql, horizon, orderIds -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", orderIds)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            for (Table child : List.of(MENU_ORDER, PAYMENT)) {
+                int count = jdbcTemplate.update(child.insertSql("order_id"), params);
+                jdbcTemplate.update(child.deleteSql("order_id"), params);
+                meterRegistry.counter("archive.rows", "table", child.name()).increment(count);
+            }
+        });
+    }
+
+    // batch-size 건씩 조회 -> (하위 행 이동) -> 보관 테이블 insert -> 원본 delete 를 한 트랜잭션으로 반복
+    private long moveInBatches(Table table, String selectSql, LocalDateTime horizon, Consumer<List<UUID>> moveChildren) {
+        MapSqlParameterSource selectParams = new MapSqlParameterSource()
+                .addValue("horizon", Timestamp.valueOf(horizon))
+                .addValue("statuses", completedOrderStatuses)
+                .addValue("limit", batchSize);
+
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<UUID> ids = jdbcTemplate.queryForList(selectSql, selectParams, UUID.class);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                moveChildren.accept(ids);
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                        .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+                jdbcTemplate.update(table.insertSql("id"), params);
+                jdbcTemplate.update(table.deleteSql("id"), params);
+                return ids.size();
+            });
+
+            int moved = count == null ? 0 : count;
+            total += moved;
+            meterRegistry.counter("archive.rows", "table", table.name()).increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
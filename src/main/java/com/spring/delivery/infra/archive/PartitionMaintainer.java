@@ -0,0 +1,51 @@
+package com.spring.delivery.infra.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * p_order, p_gemini 월 단위 파티션을 미리 만들어 둔다 (V4 마이그레이션의 p_create_month_partition 사용).
+ * 파티션이 없는 달의 행은 *_default 파티션에 들어가므로, 기동 시와 매일 이번 달부터 months-ahead 개월 뒤까지 확인한다.
+ * 파티션은 Flyway 마이그레이션이 만든 것이라 Flyway 를 사용하는 환경(PostgreSQL)에서만 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintainer {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("p_order", "p_gemini");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public PartitionMaintainer(JdbcTemplate jdbcTemplate,
+                               @Value("${archive.partition.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${archive.partition.cron:0 0 4 * * *}")
+    public void createUpcomingPartitions() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (String table : PARTITIONED_TABLES) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                try {
+                    jdbcTemplate.queryForList("SELECT p_create_month_partition(?, ?)", table, Date.valueOf(thisMonth.plusMonths(i)));
+                } catch (RuntimeException e) {
+                    log.error("파티션 생성 실패: {} {}", table, thisMonth.plusMonths(i), e);
+                }
+            }
+        }
+    }
+}
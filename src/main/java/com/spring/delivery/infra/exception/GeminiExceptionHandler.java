@@ -3,6 +3,8 @@ package com.spring.delivery.infra.exception;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,7 +13,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.concurrent.TimeoutException;
 
 @Slf4j
-@RestControllerAdvice(basePackages = "infra")
+@Order(Ordered.HIGHEST_PRECEDENCE) // GlobalExceptionHandler 의 Exception 처리보다 먼저 적용
+@RestControllerAdvice(basePackages = "com.spring.delivery.infra")
 public class GeminiExceptionHandler {
 
     // 응답 시간 초과 (504)
@@ -2,22 +2,28 @@ package com.spring.delivery.infra.gemini;
 
 import com.spring.delivery.domain.domain.entity.BaseEntity;
 import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "p_gemini")
+@Table(name = "p_gemini", indexes = {
+        // AI 추천 내역 커서 페이징 (전체 / 가게별)
+        @Index(name = "idx_gemini_created", columnList = "created_at, id"),
+        @Index(name = "idx_gemini_store_created", columnList = "store_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 프록시 객체 때문에 사용해야하기때문에....
 public class Gemini extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(nullable = false, columnDefinition = "TEXT", name = "request_text")
@@ -0,0 +1,243 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.event.GeminiChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AI 추천 요청/응답(p_gemini) 비동기 저장.
+ * 요청 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 모아서 JDBC batch insert 로 저장한다.
+ * 큐가 가득 차면 offer-timeout 만큼 기다린 뒤 호출 스레드에서 직접 저장 (유실 없이 속도 조절).
+ * 종료 시 큐에 남은 항목을 모두 저장한 뒤 끝낸다.
+ * batch insert 가 실패하면 한 건씩 다시 저장해, 실제로 저장할 수 없는 항목만 실패로 센다.
+ * 지표 : gemini.audit.queue.size, gemini.audit.write, gemini.audit.written, gemini.audit.failed, gemini.audit.caller-runs
+ */
+@Slf4j
+@Component
+public class GeminiAuditWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO p_gemini (id, request_text, response_text, store_id, created_at, created_by, updated_at, updated_by) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Row> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+
+    private final Timer writeTimer;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter callerRuns;
+
+    // 큐에 넣었지만 아직 저장(또는 실패 처리)되지 않은 항목 수
+    private final Object pendingLock = new Object();
+    private long pending;
+
+    // false 가 되면 (종료 중) 새 항목은 큐 대신 호출 스레드에서 저장
+    // running 확인과 큐에 넣기는 read lock, running 변경은 write lock 안에서 해서
+    // 종료 후(마지막 drain 이후)에 큐에 들어가 남는 항목이 없도록 함
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+    private Thread worker;
+
+    // 저장할 AI 추천 내역 (id, 생성 시각, 생성자는 호출 측에서 정해서 응답에 바로 사용)
+    public record Row(UUID id, String requestText, String responseText, UUID storeId, LocalDateTime createdAt, String createdBy) {
+    }
+
+    public GeminiAuditWriter(JdbcTemplate jdbcTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${gemini.audit.queue-capacity:10000}") int queueCapacity,
+                             @Value("${gemini.audit.batch-size:100}") int batchSize,
+                             @Value("${gemini.audit.offer-timeout:100ms}") Duration offerTimeout,
+                             @Value("${gemini.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.writeTimer = meterRegistry.timer("gemini.audit.write");
+        this.written = meterRegistry.counter("gemini.audit.written");
+        this.failed = meterRegistry.counter("gemini.audit.failed");
+        this.callerRuns = meterRegistry.counter("gemini.audit.caller-runs");
+        Gauge.builder("gemini.audit.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::drainLoop, "gemini-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 저장 요청 (큐가 가득 차 있으면 잠시 기다리고, 그래도 자리가 없으면 호출 스레드에서 바로 저장)
+    public void submit(Row row) {
+        addPending(1);
+
+        boolean queued = false;
+        runningLock.readLock().lock();
+        try {
+            if (running) {
+                queued = queue.offer(row, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runningLock.readLock().unlock();
+        }
+
+        if (!queued) {
+            callerRuns.increment();
+            write(List.of(row));
+        }
+    }
+
+    // 지금까지 요청된 항목이 모두 저장될 때까지 대기 (timeout 안에 끝나면 true)
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (pendingLock) {
+            while (pending > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                pendingLock.wait(remainingMillis);
+            }
+            return true;
+        }
+    }
+
+    // 새 항목은 호출 스레드에서 저장하도록 바꾸고, 큐에 남은 항목을 모두 저장한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 진행 중인 offer 가 끝날 때까지 (최대 offer-timeout) 기다린 뒤 종료 상태로 변경
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+
+        if (worker != null) {
+            worker.join(shutdownTimeout.toMillis());
+            if (worker.isAlive()) {
+                log.warn("AI 추천 저장 스레드가 {} 안에 끝나지 않았습니다.", shutdownTimeout);
+            }
+        }
+
+        List<Row> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    private void drainLoop() {
+        List<Row> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Row first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Row> rows) {
+        try {
+            insert(rows);
+        } catch (RuntimeException e) {
+            if (rows.size() > 1) {
+                retryOneByOne(rows, e);
+                return;
+            }
+            // 한 건 저장 시 중복 키는 앞서 실패한 batch 에서 이미 저장된 항목 (id 는 호출 측에서 정한 UUID)
+            if (!(e instanceof DuplicateKeyException)) {
+                failed.increment();
+                log.error("AI 추천 내역 저장 실패: id={}", rows.get(0).id(), e);
+                addPending(-1);
+                return;
+            }
+        }
+        written.increment(rows.size());
+
+        // 저장된 항목을 검색 인덱스 등에 반영 (트랜잭션 밖이라 리스너가 바로 실행됨)
+        try {
+            rows.forEach(row -> eventPublisher.publishEvent(new GeminiChangedEvent(row.id())));
+        } catch (RuntimeException e) {
+            log.warn("AI 추천 저장 이벤트 처리 실패", e);
+        } finally {
+            addPending(-rows.size());
+        }
+    }
+
+    // batch 중 한 건 때문에 전체가 실패한 경우 나머지는 저장되도록 한 건씩 다시 저장
+    // (batch 실패 전에 이미 저장된 항목은 중복 키로 실패하므로 저장된 것으로 처리)
+    private void retryOneByOne(List<Row> rows, RuntimeException cause) {
+        log.warn("AI 추천 내역 batch 저장 실패, 한 건씩 다시 저장: {}건", rows.size(), cause);
+        for (Row row : rows) {
+            write(List.of(row));
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        writeTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            ps.setObject(1, row.id());
+            ps.setString(2, row.requestText());
+            ps.setString(3, row.responseText());
+            ps.setObject(4, row.storeId());
+            ps.setTimestamp(5, createdAt);
+            ps.setString(6, row.createdBy());
+            ps.setTimestamp(7, createdAt);
+            ps.setString(8, row.createdBy());
+        }));
+    }
+
+    private void addPending(long delta) {
+        synchronized (pendingLock) {
+            pending += delta;
+            if (pending == 0) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+}
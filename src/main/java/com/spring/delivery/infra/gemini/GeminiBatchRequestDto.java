@@ -0,0 +1,26 @@
+package com.spring.delivery.infra.gemini;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+public class GeminiBatchRequestDto {
+
+    // 가게 ID
+    private UUID storeId;
+    // 메뉴별 질문 목록 (응답도 같은 순서로 반환)
+    private List<String> requestTexts;
+
+    private GeminiBatchRequestDto(UUID storeId, List<String> requestTexts) {
+        this.storeId = storeId;
+        this.requestTexts = requestTexts;
+    }
+
+    public static GeminiBatchRequestDto of(UUID storeId, List<String> requestTexts) {
+        return new GeminiBatchRequestDto(storeId, requestTexts);
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+public class GeminiBatchResponseDto {
+
+    private UUID storeId;
+    private int succeeded;
+    private int failed;
+    // 요청 순서대로의 항목별 결과
+    private List<Item> results;
+
+    private GeminiBatchResponseDto(UUID storeId, List<Item> results) {
+        this.storeId = storeId;
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(item -> item.getStatus() == 200).count();
+        this.failed = results.size() - succeeded;
+    }
+
+    public static GeminiBatchResponseDto of(UUID storeId, List<Item> results) {
+        return new GeminiBatchResponseDto(storeId, results);
+    }
+
+    // 항목별 결과 (성공 시 저장된 추천, 실패 시 단건 API 와 같은 상태 코드/메시지)
+    @Getter
+    @NoArgsConstructor
+    public static class Item {
+        private int index;
+        private String requestText;
+        private int status;
+        private String message;
+        private GeminiResponseDto suggestion;
+
+        private Item(int index, String requestText, ApiResponseDto<GeminiResponseDto> response) {
+            this.index = index;
+            this.requestText = requestText;
+            this.status = response.getStatus();
+            this.message = response.getMessage();
+            this.suggestion = response.getData();
+        }
+
+        public static Item of(int index, String requestText, ApiResponseDto<GeminiResponseDto> response) {
+            return new Item(index, requestText, response);
+        }
+    }
+}
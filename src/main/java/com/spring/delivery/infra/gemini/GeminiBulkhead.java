@@ -0,0 +1,69 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 진행 중인 Gemini 호출 수 제한 (gemini.client.max-concurrent-calls).
+ * 허용량을 넘는 요청은 대기하지 않고 바로 503 으로 실패시켜, 외부 API 지연이 서버 전체로 번지지 않도록 한다.
+ * 지표 : gemini.bulkhead.available, gemini.bulkhead.rejected
+ */
+@Component
+public class GeminiBulkhead {
+
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public GeminiBulkhead(MeterRegistry meterRegistry,
+                          @Value("${gemini.client.max-concurrent-calls:20}") int maxConcurrentCalls) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejected = meterRegistry.counter("gemini.bulkhead.rejected");
+        Gauge.builder("gemini.bulkhead.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    // 구독 시점에 자리를 확보하고, 완료/실패/취소 시 반환
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new GeminiServiceUnavailableException("AI 추천 요청이 많아 처리할 수 없습니다."));
+            }
+            try {
+                return call.get().doFinally(signal -> permits.release());
+            } catch (RuntimeException e) {
+                permits.release();
+                return Mono.error(e);
+            }
+        });
+    }
+
+    // 스트리밍 호출용, 스트림이 끝날 때까지 자리를 차지
+    public <T> Flux<T> executeMany(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                return Flux.error(new GeminiServiceUnavailableException("AI 추천 요청이 많아 처리할 수 없습니다."));
+            }
+            try {
+                return call.get().doFinally(signal -> permits.release());
+            } catch (RuntimeException e) {
+                permits.release();
+                return Flux.error(e);
+            }
+        });
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,241 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 circuit breaker (gemini.circuit-breaker.*)
+ * - CLOSED    : 최근 N건(sliding window)의 실패율이 기준 이상이면 OPEN
+ * - OPEN      : 대기 시간 동안 호출하지 않고 바로 503 (타임아웃까지 기다리지 않음)
+ * - HALF_OPEN : 대기 시간이 지나면 일부 요청만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * 지표 : gemini.circuit.state{state}, gemini.circuit.transitions{from,to}, gemini.circuit.rejected
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long waitNanosInOpen;
+    private final int permittedCallsInHalfOpen;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    // 상태가 바뀔 때마다 증가, 이전 상태에서 시작한 호출의 결과는 반영하지 않음
+    private long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public GeminiCircuitBreaker(MeterRegistry meterRegistry,
+                                @Value("${gemini.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                                @Value("${gemini.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                @Value("${gemini.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                                @Value("${gemini.circuit-breaker.wait-duration-in-open:30s}") Duration waitDurationInOpen,
+                                @Value("${gemini.circuit-breaker.permitted-calls-in-half-open:3}") int permittedCallsInHalfOpen) {
+        this.window = new boolean[slidingWindowSize];
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.waitNanosInOpen = waitDurationInOpen.toNanos();
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+
+        this.meterRegistry = meterRegistry;
+        this.rejected = meterRegistry.counter("gemini.circuit.rejected");
+        for (State gaugeState : State.values()) {
+            Gauge.builder("gemini.circuit.state", this, breaker -> breaker.getState() == gaugeState ? 1 : 0)
+                    .tag("state", gaugeState.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 차단 중이면 호출하지 않고 503, 아니면 호출 후 결과를 기록한다.
+     * isFailure 에 해당하지 않는 오류(4xx 등)는 성공/실패 어느 쪽으로도 세지 않는다.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            Outcome outcome = acquire();
+            if (outcome == null) {
+                return Mono.error(openException());
+            }
+            return call.get()
+                    .doOnSuccess(value -> outcome.success())
+                    .doOnError(e -> outcome.error(e, isFailure))
+                    .doOnCancel(outcome::ignore);
+        });
+    }
+
+    // 스트리밍 호출용, 스트림이 정상 종료되면 성공으로 기록
+    public <T> Flux<T> executeMany(Supplier<Flux<T>> call, Predicate<Throwable> isFailure) {
+        return Flux.defer(() -> {
+            Outcome outcome = acquire();
+            if (outcome == null) {
+                return Flux.error(openException());
+            }
+            return call.get()
+                    .doOnComplete(outcome::success)
+                    .doOnError(e -> outcome.error(e, isFailure))
+                    .doOnCancel(outcome::ignore);
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private Outcome acquire() {
+        long permit = tryAcquire();
+        return permit < 0 ? null : new Outcome(permit);
+    }
+
+    private GeminiServiceUnavailableException openException() {
+        rejected.increment();
+        return new GeminiServiceUnavailableException("AI 추천 서비스 장애로 요청이 일시 차단되었습니다.");
+    }
+
+    // 호출 가능하면 현재 generation, 차단이면 -1
+    private synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < waitNanosInOpen) {
+                return -1;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= permittedCallsInHalfOpen) {
+                return -1;
+            }
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+
+    private synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        } else if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= permittedCallsInHalfOpen) {
+                transition(State.CLOSED);
+            }
+        }
+    }
+
+    private synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+        } else if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+        }
+    }
+
+    private synchronized void onIgnored(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= minimumCalls && windowFailures * 100.0 / windowCount >= failureRateThreshold) {
+            transition(State.OPEN);
+        }
+    }
+
+    private void transition(State to) {
+        log.warn("Gemini circuit breaker 상태 변경: {} -> {}", state, to);
+        meterRegistry.counter("gemini.circuit.transitions",
+                        "from", state.name().toLowerCase(Locale.ROOT),
+                        "to", to.name().toLowerCase(Locale.ROOT))
+                .increment();
+
+        state = to;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (to == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    // 호출 한 건의 결과를 한 번만 기록
+    private final class Outcome {
+        private final long permit;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Outcome(long permit) {
+            this.permit = permit;
+        }
+
+        void success() {
+            if (recorded.compareAndSet(false, true)) {
+                onSuccess(permit);
+            }
+        }
+
+        void error(Throwable e, Predicate<Throwable> isFailure) {
+            if (recorded.compareAndSet(false, true)) {
+                if (isFailure.test(e)) {
+                    onFailure(permit);
+                } else {
+                    onIgnored(permit);
+                }
+            }
+        }
+
+        void ignore() {
+            if (recorded.compareAndSet(false, true)) {
+                onIgnored(permit);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.spring.delivery.infra.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.infra.exception.GeminiApiException;
+import com.spring.delivery.infra.exception.GeminiException;
+import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
+import com.spring.delivery.infra.exception.GeminiTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Gemini API 호출 담당 (circuit breaker -> bulkhead -> 호출 -> 5xx 재시도(지수 backoff + jitter) -> 응답 텍스트 추출 -> Gemini 예외 변환)
+ */
+@Slf4j
+@Component
+public class GeminiClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GeminiBulkhead bulkhead;
+    private final GeminiCircuitBreaker circuitBreaker;
+
+    // Access to API key and URL[Gemini]
+    private final String geminiApiUrl;
+    private final String geminiApiKey;
+    private final String geminiStreamApiUrl;
+
+    private final Duration totalTimeout;
+    private final int maxRetries;
+    private final Duration retryMinBackoff;
+
+    public GeminiClient(WebClient geminiWebClient, ObjectMapper objectMapper, GeminiBulkhead bulkhead, GeminiCircuitBreaker circuitBreaker,
+                        @Value("${gemini.api.url}") String geminiApiUrl,
+                        @Value("${gemini.api.key}") String geminiApiKey,
+                        @Value("${gemini.api.stream-url:}") String geminiStreamApiUrl,
+                        @Value("${gemini.client.total-timeout:10s}") Duration totalTimeout,
+                        @Value("${gemini.client.retry.max-retries:2}") int maxRetries,
+                        @Value("${gemini.client.retry.min-backoff:200ms}") Duration retryMinBackoff) {
+        this.webClient = geminiWebClient;
+        this.objectMapper = objectMapper;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.geminiApiUrl = geminiApiUrl;
+        this.geminiApiKey = geminiApiKey;
+        // 별도 설정이 없으면 generateContent URL 에서 스트리밍(SSE) URL 을 만든다
+        this.geminiStreamApiUrl = StringUtils.hasText(geminiStreamApiUrl)
+                ? geminiStreamApiUrl
+                : geminiApiUrl.replace(":generateContent?", ":streamGenerateContent?alt=sse&");
+        this.totalTimeout = totalTimeout;
+        this.maxRetries = maxRetries;
+        this.retryMinBackoff = retryMinBackoff;
+    }
+
+    // 프롬프트를 보내고 응답 텍스트를 반환 (block 하지 않음)
+    public Mono<String> generate(String prompt) {
+        Map<String, Object> requestBody = requestBody(prompt);
+
+        // 장애 중(circuit open)이면 호출하지 않고 바로 실패, 타임아웃/5xx 는 실패로 기록
+        return circuitBreaker.execute(() -> bulkhead.execute(() -> webClient.post()
+                                .uri(geminiApiUrl + geminiApiKey)
+                                .header("Content-Type", "application/json")
+                                .bodyValue(requestBody)
+                                .retrieve()
+                                .bodyToMono(String.class)
+                                // 5xx 응답만 재시도 (동시에 실패한 요청들이 같은 시점에 몰리지 않도록 jitter)
+                                .retryWhen(Retry.backoff(maxRetries, retryMinBackoff)
+                                        .jitter(0.5)
+                                        .filter(GeminiClient::isServerError)
+                                        .onRetryExhaustedThrow((spec, signal) -> signal.failure())))
+                        .timeout(totalTimeout), // 재시도를 포함한 전체 응답시간 초과 시 504 에러 처리
+                GeminiClient::isUpstreamFailure)
+                // 응답 데이터 에서 필요한 필드만 추출. api response to Dto and text extraction
+                .map(this::extractResponseText)
+                .onErrorMap(this::translateException);
+    }
+
+    /**
+     * 프롬프트를 보내고 생성되는 텍스트 조각을 받는 대로 흘려보낸다 (Gemini streamGenerateContent, SSE).
+     * 일부 조각을 이미 내보낸 뒤에는 다시 보낼 수 없으므로 재시도하지 않고, 조각 사이 간격이 전체 타임아웃을 넘으면 504 처리한다.
+     */
+    public Flux<String> stream(String prompt) {
+        Map<String, Object> requestBody = requestBody(prompt);
+
+        return circuitBreaker.executeMany(() -> bulkhead.executeMany(() -> webClient.post()
+                                .uri(geminiStreamApiUrl + geminiApiKey)
+                                .header("Content-Type", "application/json")
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .bodyValue(requestBody)
+                                .retrieve()
+                                .bodyToFlux(SERVER_SENT_EVENT_TYPE))
+                        .timeout(totalTimeout),
+                GeminiClient::isUpstreamFailure)
+                .mapNotNull(ServerSentEvent::data)
+                .map(this::extractChunkText)
+                .filter(StringUtils::hasLength)
+                .onErrorMap(this::translateException);
+    }
+
+    // 요청 데이터 생성
+    // Construct the request payload
+    // {"contents": [{"parts":[{"text": "질문할것"}]}]}
+    private Map<String, Object> requestBody(String prompt) {
+        return Map.of(
+                "contents", new Object[] {
+                        Map.of("parts",  new Object[] {
+                                Map.of("text", prompt)
+                        })
+                }
+        );
+    }
+
+    // circuit breaker 실패로 세는 오류 (타임아웃, 연결 실패, 5xx)
+    private static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof TimeoutException || e instanceof WebClientRequestException || isServerError(e);
+    }
+
+    private static boolean isServerError(Throwable e) {
+        return e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is5xxServerError();
+    }
+
+    // WebClient 예외를 Gemini 예외로 변환
+    private Throwable translateException(Throwable e) {
+        if (e instanceof GeminiException) {
+            return e;
+        }
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException) {
+            log.warn("Gemini API 응답 시간 초과: {}", e.getMessage());
+            return new GeminiTimeoutException("Gemini API 추천 서비스 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.warn("Gemini API 요청 실패 - 상태 코드: {}, 메시지: {}", responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            if (responseException.getStatusCode().is5xxServerError()) {
+                return new GeminiServiceUnavailableException("현재 AI 추천 서비스를 이용할 수 없습니다. ");
+            }
+            return new GeminiApiException("Gemini AI 추천 서비스 요청 중 오류가 발생했습니다.");
+        }
+        log.error("Gemini API 호출 중 예상치 못한 오류 발생", e);
+        return new GeminiApiException("AI 추천 서비스 요청 중 오류가 발생했습니다.");
+    }
+
+    // 스트리밍 응답 조각의 텍스트 (마지막 조각처럼 텍스트가 없으면 빈 문자열)
+    private String extractChunkText(String chunk) {
+        try {
+            return objectMapper.readTree(chunk).path("candidates").path(0)
+                    .path("content").path("parts").path(0)
+                    .path("text").asText();
+        } catch (Exception e) {
+            log.error("Gemini API 스트리밍 응답 데이터 파싱 실패", e);
+            throw new GeminiApiException("AI 추천 서비스 응답 데이터 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    // gemini 응답 가공하는 메서드
+    private String extractResponseText(String response) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(response);
+            return jsonNode.path("candidates").get(0)
+                    .path("content").path("parts").get(0)
+                    .path("text").asText();
+        } catch (Exception e) {
+            log.error("Gemini API 응답 데이터 파싱 실패", e);
+            throw new GeminiApiException("AI 추천 서비스 응답 데이터 처리 중 오류가 발생했습니다.");
+        }
+    }
+}
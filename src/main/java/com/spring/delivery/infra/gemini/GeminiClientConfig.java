@@ -0,0 +1,56 @@
+package com.spring.delivery.infra.gemini;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Gemini 호출 전용 WebClient 설정 (gemini.client.*)
+ * 다른 외부 호출과 커넥션 풀을 공유하지 않고, 풀 크기/대기열/연결·응답 타임아웃을 따로 관리한다.
+ */
+@Configuration
+public class GeminiClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider(
+            @Value("${gemini.client.max-connections:50}") int maxConnections,
+            @Value("${gemini.client.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${gemini.client.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${gemini.client.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
+    @Bean
+    public WebClient geminiWebClient(
+            ConnectionProvider geminiConnectionProvider,
+            @Value("${gemini.api.url}") String geminiApiUrl,
+            @Value("${gemini.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${gemini.client.response-timeout:5s}") Duration responseTimeout,
+            @Value("${gemini.client.http2:true}") boolean http2) {
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        // HTTP/2 는 TLS(ALPN) 협상이 필요하므로 https 일 때만 사용 (서버가 지원하지 않으면 HTTP/1.1)
+        if (http2 && geminiApiUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
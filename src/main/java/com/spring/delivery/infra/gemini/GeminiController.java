@@ -3,9 +3,13 @@ package com.spring.delivery.infra.gemini;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.UUID;
@@ -17,16 +21,36 @@ public class GeminiController {
 
     private final GeminiService geminiService;
 
-    // ai 추천 생성
+    // ai 추천 생성 (Gemini 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 Mono 반환)
     @PostMapping("/ai-suggestion")
-    public ResponseEntity<ApiResponseDto<GeminiResponseDto>> createAiSuggestion(
+    public Mono<ResponseEntity<ApiResponseDto<GeminiResponseDto>>> createAiSuggestion(
             @RequestBody GeminiRequestDto requestDto,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
 
-        ApiResponseDto<GeminiResponseDto> responseDto = geminiService.saveAiSuggestion(requestDto.getRequestText(), requestDto.getStoreId(), userDetails);
+        return geminiService.saveAiSuggestion(requestDto.getRequestText(), requestDto.getStoreId(), userDetails)
+                .map(responseDto -> ResponseEntity.status(responseDto.getStatus()).body(responseDto));
+    }
 
-        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    // ai 추천 생성 (스트리밍, 생성되는 텍스트를 SSE 로 바로 전달하고 완료 시 저장 결과를 done 이벤트로 전달)
+    @PostMapping(value = "/ai-suggestion/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamAiSuggestion(
+            @RequestBody GeminiRequestDto requestDto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+
+        return geminiService.streamAiSuggestion(requestDto.getRequestText(), requestDto.getStoreId(), userDetails);
+    }
+
+    // ai 추천 일괄 생성 (메뉴 여러 개를 한 번에 요청, 항목별 성공/실패를 순서대로 반환)
+    @PostMapping("/ai-suggestion/batch")
+    public Mono<ResponseEntity<ApiResponseDto<GeminiBatchResponseDto>>> createAiSuggestions(
+            @RequestBody GeminiBatchRequestDto requestDto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+
+        return geminiService.saveAiSuggestions(requestDto, userDetails)
+                .map(responseDto -> ResponseEntity.status(responseDto.getStatus()).body(responseDto));
     }
 
     // 응답 삭제
@@ -64,6 +88,21 @@ public class GeminiController {
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
+    // 전체 조회 (커서 기반, cursor 파라미터가 있으면 이쪽으로 라우팅 / 빈 값이면 첫 페이지)
+    @GetMapping(value = "/ai-suggestion", params = "cursor")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getAiSuggestionsByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+
+        ApiResponseDto<Map<String, Object>> responseDto = geminiService.getSuggestionsByCursor(userDetails, storeId, cursor, size, withTotal);
+
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
     /* 검색 */
     @GetMapping("/ai-suggestion/search")
     public ResponseEntity<ApiResponseDto<Map<String, Object>>> searchAiSuggestions(
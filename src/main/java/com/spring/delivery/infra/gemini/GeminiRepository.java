@@ -1,10 +1,15 @@
 package com.spring.delivery.infra.gemini;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -14,9 +19,39 @@ public interface GeminiRepository extends JpaRepository<Gemini, UUID> {
     // 가게별 AI 추천 내역 조회(전체)
     Page<Gemini> findByStoreId(UUID storeId, Pageable pageable);
 
-    // 가게별 AI 추천 내역 중, 특정 키워드를 포함한 결과
+    // 가게별 AI 추천 내역 중, 특정 키워드를 포함한 결과 (삭제된 내역은 soft delete 필터가 제외)
     Page<Gemini> findByStoreIdAndResponseTextContaining(UUID storeId, String keyword, Pageable pageable);
 
     // 모든 추천 내역 중, 특정 키워드를 포함한 결과
     Page<Gemini> findByResponseTextContaining(String keyword, Pageable pageable);
+
+    // 검색 인덱스 구성용 - 삭제되지 않은 추천 내역을 id 순으로 나눠서 조회 (offset 없이 마지막 id 이후부터)
+    @Query("SELECT new com.spring.delivery.infra.gemini.GeminiRepository$GeminiSearchRow(" +
+            "g.id, g.store.id, g.responseText, g.createdAt, g.updatedAt) " +
+            "FROM Gemini g WHERE g.id > :lastId ORDER BY g.id")
+    List<GeminiSearchRow> findSearchRowsAfter(@Param("lastId") UUID lastId, Limit limit);
+
+    // 커서 기반 조회 (createdAt, id 내림차순) - 첫 페이지
+    @Query("SELECT g FROM Gemini g ORDER BY g.createdAt DESC, g.id DESC")
+    List<Gemini> findFirstPage(Limit limit);
+
+    @Query("SELECT g FROM Gemini g WHERE g.store.id = :storeId ORDER BY g.createdAt DESC, g.id DESC")
+    List<Gemini> findFirstPageByStoreId(@Param("storeId") UUID storeId, Limit limit);
+
+    // 커서 기반 조회 - 커서 이후 페이지
+    @Query("SELECT g FROM Gemini g WHERE (g.createdAt, g.id) < (:createdAt, :id) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<Gemini> findNextPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT g FROM Gemini g WHERE g.store.id = :storeId AND (g.createdAt, g.id) < (:createdAt, :id) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<Gemini> findNextPageByStoreId(@Param("storeId") UUID storeId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    long countByStoreId(UUID storeId);
+
+    record GeminiSearchRow(UUID id, UUID storeId, String responseText, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
 }
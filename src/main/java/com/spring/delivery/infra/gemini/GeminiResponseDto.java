@@ -39,4 +39,16 @@ public class GeminiResponseDto {
                   .build();
 
     }
+
+    // 비동기 저장 요청한 내역 (insert 전이라 엔티티 대신 저장할 값으로 응답 구성)
+    public static GeminiResponseDto from(GeminiAuditWriter.Row row) {
+        return GeminiResponseDto.builder()
+                .id(row.id())
+                .requestText(row.requestText())
+                .responseText(row.responseText())
+                .storeId(row.storeId())
+                .createdAt(row.createdAt())
+                .createdBy(row.createdBy())
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.spring.delivery.infra.gemini;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * AI 추천 내역 응답 텍스트 검색 방식 (gemini.search.mode 로 선택)
+ * - like  : DB LIKE '%keyword%' 검색 (기본값)
+ * - ngram : 메모리 내 3-gram 역색인 검색
+ */
+public interface GeminiSearchEngine {
+
+    // 응답 텍스트에 keyword 를 포함하는 (삭제되지 않은) 추천 내역 조회, storeId 가 null 이면 전체 가게
+    Page<Gemini> search(UUID storeId, String keyword, Pageable pageable);
+}
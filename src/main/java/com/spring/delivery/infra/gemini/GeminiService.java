@@ -1,32 +1,36 @@
 package com.spring.delivery.infra.gemini;
 
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
-import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.event.GeminiChangedEvent;
+import com.spring.delivery.global.pagination.Cursor;
+import com.spring.delivery.global.persistence.UuidV7Generator;
 import com.spring.delivery.global.security.UserDetailsImpl;
-import com.spring.delivery.infra.exception.GeminiApiException;
+import com.spring.delivery.infra.exception.GeminiException;
 import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
 import com.spring.delivery.infra.exception.GeminiTimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,80 +41,153 @@ public class GeminiService {
 
     /** Gemini 호출 후 가공하여 반환하는 담당*/
 
-    // Access to API key and URL[Gemini]
-    @Value("${gemini.api.url}")
-    private String geminiApiUrl;
+    // 질문 뒤에 붙이는 답변 형식 안내
+    private static final String REQUEST_TO_GEMINI = ". Please write your answer as concisely as possible, no longer than 50 characters. If this question is not about the 'food menu,' reply that you should only ask questions related to the menu.";
 
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
-
-    private final WebClient webClient = WebClient.create();
+    private final GeminiClient geminiClient;
     private final GeminiRepository geminiRepository;
     private final StoreRepository storeRepository;
+    private final GeminiAuditWriter auditWriter;
+    private final GeminiSuggestionCache suggestionCache;
+    private final GeminiSearchEngine geminiSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 일괄 생성 시 한 번에 받을 수 있는 최대 질문 수
+    @Value("${gemini.batch.max-items:50}")
+    private int batchMaxItems;
+
+    // 일괄 생성 시 동시에 보내는 Gemini 호출 수 (bulkhead 최대 동시 호출 수보다 작게 유지)
+    @Value("${gemini.batch.concurrency:4}")
+    private int batchConcurrency;
 
     /* 생성 */
-    @Transactional
-    public ApiResponseDto<GeminiResponseDto> saveAiSuggestion(String requestText, UUID storeId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    // 외부 호출은 트랜잭션/요청 스레드 밖에서 비동기로 수행하고, 응답 저장은 GeminiAuditWriter 에 넘긴 뒤 바로 응답
+    public Mono<ApiResponseDto<GeminiResponseDto>> saveAiSuggestion(String requestText, UUID storeId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         // 권한 확인 (OWNER, MASTER만 가능)
         Set<String> allowedRoles = Set.of("ROLE_MASTER", "ROLE_OWNER");
 
         if (!lacksAuthority(userDetails, allowedRoles)) {
-            return ApiResponseDto.fail(403, "열람할 권한이 없습니다.");
+            return Mono.just(ApiResponseDto.fail(403, "열람할 권한이 없습니다."));
         }
 
         // store entity check
-        Store store =  storeRepository.findById(storeId).orElse(null);
-        if (store == null) {
-            return ApiResponseDto.fail(404, "해당 가게 정보를 찾을 수 없습니다.");
-        }
-
-        // 요청 데이터 생성
-        // Construct the request payload
-        // {"contents": [{"parts":[{"text": "질문할것"}]}]}
-        String requestToGemini = ". Please write your answer as concisely as possible, no longer than 50 characters. If this question is not about the 'food menu,' reply that you should only ask questions related to the menu.";
-        Map<String, Object> requestBody = Map.of(
-                "contents", new Object[] {
-                        Map.of("parts",  new Object[] {
-                                Map.of("text", requestText + requestToGemini)
-                        })
-                }
-        );
+        if (!storeRepository.existsById(storeId)) {
+            return Mono.just(ApiResponseDto.fail(404, "해당 가게 정보를 찾을 수 없습니다."));
+        }
+
+        String username = userDetails.getUsername();
+
+        // 같은 가게의 같은 질문은 캐시된 응답을 쓰거나 진행 중인 호출을 공유 (저장은 요청마다)
+        // 큐가 가득 차면 저장 요청이 잠시 막힐 수 있으므로 boundedElastic 에서 처리
+        return suggestionCache.get(storeId, requestText, () -> geminiClient.generate(requestText + REQUEST_TO_GEMINI))
+                .flatMap(aiResponseText -> Mono.fromCallable(() -> saveSuggestion(requestText, aiResponseText, storeId, username))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .map(ApiResponseDto::success);
+    }
 
-        try {
-            // call gemini
-            String apiResponseJson = webClient.post()
-                    .uri(geminiApiUrl + geminiApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5)) // 응답시간 5초 초과 시 504 에러 처리
-                    .block();
-
-            // 응답 데이터 에서 필요한 필드만 추출. api response to Dto and text extraction
-            String aiResponseText = extractResponseText(apiResponseJson);
-
-            // Gemini 응답 저장
-            Gemini gemini = Gemini.of(requestText, aiResponseText, store);
-            geminiRepository.save(gemini);
-
-            return ApiResponseDto.success(GeminiResponseDto.from(gemini));
-
-        } catch (WebClientRequestException e) {
-            log.warn("Gemini API 응답 시간 초과: {}", e.getMessage());
-            throw new GeminiTimeoutException("Gemini API 추천 서비스 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
-        } catch (WebClientResponseException e) {
-            log.warn("Gemini API 요청 실패 - 상태 코드: {}, 메시지: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            if (e.getStatusCode().is5xxServerError()) {
-                throw new GeminiServiceUnavailableException("현재 AI 추천 서비스를 이용할 수 없습니다. ");
-            }
-            throw new GeminiApiException("Gemini AI 추천 서비스 요청 중 오류가 발생했습니다.");
-        } catch (Exception e) {
-            log.error("Gemini API 호출 중 예상치 못한 오류 발생", e);
-            throw new GeminiApiException("AI 추천 서비스 요청 중 오류가 발생했습니다.");
+    /* 생성 (스트리밍) */
+    // 생성되는 텍스트 조각을 SSE(chunk)로 바로 전달하고, 스트림이 끝나면 합친 텍스트를 저장해 done 이벤트로 전달
+    // 응답이 시작된 뒤에는 HTTP 상태를 바꿀 수 없으므로 실패는 error 이벤트(ApiResponseDto)로 전달
+    public Flux<ServerSentEvent<Object>> streamAiSuggestion(String requestText, UUID storeId, UserDetailsImpl userDetails) {
+
+        // 권한 확인 (OWNER, MASTER만 가능)
+        Set<String> allowedRoles = Set.of("ROLE_MASTER", "ROLE_OWNER");
+
+        if (!lacksAuthority(userDetails, allowedRoles)) {
+            return Flux.just(errorEvent(ApiResponseDto.fail(403, "열람할 권한이 없습니다.")));
         }
 
+        // store entity check
+        if (!storeRepository.existsById(storeId)) {
+            return Flux.just(errorEvent(ApiResponseDto.fail(404, "해당 가게 정보를 찾을 수 없습니다.")));
+        }
+
+        String username = userDetails.getUsername();
+
+        return Flux.defer(() -> {
+            StringBuilder assembled = new StringBuilder();
+
+            Flux<ServerSentEvent<Object>> chunks = geminiClient.stream(requestText + REQUEST_TO_GEMINI)
+                    .doOnNext(assembled::append)
+                    // 문자열 그대로 보내면 SSE 기본 인코딩(ISO-8859-1)으로 한글이 깨지므로 JSON({"text": ...})으로 전달
+                    .map(chunk -> ServerSentEvent.<Object>builder(Map.of("text", chunk)).event("chunk").build());
+
+            Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> saveSuggestion(requestText, assembled.toString(), storeId, username))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(responseDto -> ServerSentEvent.<Object>builder(ApiResponseDto.success(responseDto)).event("done").build());
+
+            return chunks.concatWith(done);
+        }).onErrorResume(GeminiException.class, e -> Flux.just(errorEvent(toFailResponse(e))));
+    }
+
+    /* 일괄 생성 */
+    // 메뉴별 질문을 제한된 동시 호출 수로 나눠 보내고, 성공한 응답을 한 번에 GeminiAuditWriter 로 넘김 (batch insert)
+    // 항목별 실패는 전체 요청을 실패시키지 않고 해당 항목의 상태 코드/메시지로 반환
+    public Mono<ApiResponseDto<GeminiBatchResponseDto>> saveAiSuggestions(GeminiBatchRequestDto requestDto, UserDetailsImpl userDetails) {
+
+        // 권한 확인 (OWNER, MASTER만 가능)
+        Set<String> allowedRoles = Set.of("ROLE_MASTER", "ROLE_OWNER");
+
+        if (!lacksAuthority(userDetails, allowedRoles)) {
+            return Mono.just(ApiResponseDto.fail(403, "열람할 권한이 없습니다."));
+        }
+
+        List<String> requestTexts = requestDto.getRequestTexts();
+        if (requestTexts == null || requestTexts.isEmpty()) {
+            return Mono.just(ApiResponseDto.fail(400, "요청할 질문이 없습니다."));
+        }
+        if (requestTexts.size() > batchMaxItems) {
+            return Mono.just(ApiResponseDto.fail(400, "한 번에 최대 " + batchMaxItems + "개까지 요청할 수 있습니다."));
+        }
+
+        // store entity check
+        UUID storeId = requestDto.getStoreId();
+        if (storeId == null || !storeRepository.existsById(storeId)) {
+            return Mono.just(ApiResponseDto.fail(404, "해당 가게 정보를 찾을 수 없습니다."));
+        }
+
+        String username = userDetails.getUsername();
+
+        // flatMapSequential : 동시에 호출하되 결과는 요청 순서대로 모음
+        return Flux.fromIterable(requestTexts)
+                .flatMapSequential(requestText -> generateForBatch(storeId, requestText), batchConcurrency)
+                .collectList()
+                .flatMap(outcomes -> Mono.fromCallable(() -> saveSuggestions(storeId, requestTexts, outcomes, username))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .map(ApiResponseDto::success);
+    }
+
+    // 일괄 생성의 항목 하나 (실패는 예외 대신 실패 응답으로 변환)
+    private Mono<ApiResponseDto<String>> generateForBatch(UUID storeId, String requestText) {
+        if (requestText == null || requestText.isBlank()) {
+            return Mono.just(ApiResponseDto.fail(400, "질문 내용이 비어 있습니다."));
+        }
+
+        return suggestionCache.get(storeId, requestText, () -> geminiClient.generate(requestText + REQUEST_TO_GEMINI))
+                .map(ApiResponseDto::success)
+                .onErrorResume(GeminiException.class, e -> Mono.just(toFailResponse(e)));
+    }
+
+    // 성공한 응답만 저장 요청 (요청 순서대로 결과 구성)
+    private GeminiBatchResponseDto saveSuggestions(UUID storeId, List<String> requestTexts, List<ApiResponseDto<String>> outcomes, String username) {
+        List<GeminiBatchResponseDto.Item> results = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            ApiResponseDto<String> outcome = outcomes.get(i);
+            ApiResponseDto<GeminiResponseDto> response = outcome.getStatus() == 200
+                    ? ApiResponseDto.success(saveSuggestion(requestTexts.get(i), outcome.getData(), storeId, username))
+                    : ApiResponseDto.fail(outcome.getStatus(), outcome.getMessage());
+            results.add(GeminiBatchResponseDto.Item.of(i, requestTexts.get(i), response));
+        }
+        return GeminiBatchResponseDto.of(storeId, results);
+    }
+
+    // Gemini 응답 저장 요청 (id, 생성 시각을 여기서 정해 insert 를 기다리지 않고 바로 응답)
+    private GeminiResponseDto saveSuggestion(String requestText, String aiResponseText, UUID storeId, String username) {
+        GeminiAuditWriter.Row row = new GeminiAuditWriter.Row(
+                UuidV7Generator.generate(), requestText, aiResponseText, storeId, LocalDateTime.now(), username);
+        auditWriter.submit(row);
+        return GeminiResponseDto.from(row);
     }
 
     /* 삭제 */
@@ -127,6 +204,7 @@ public class GeminiService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 AI 추천 기록을 찾을 수 없습니다."));
 
         gemini.delete(userDetails.getUsername()); // soft delete
+        eventPublisher.publishEvent(new GeminiChangedEvent(geminiId));
 
         return ApiResponseDto.success(null);
     }
@@ -175,6 +253,52 @@ public class GeminiService {
         return ApiResponseDto.success(response);
     }
 
+    /* 전체 조회 (커서 기반, 최신순) */
+    @Transactional(readOnly = true)
+    public ApiResponseDto<Map<String, Object>> getSuggestionsByCursor(UserDetailsImpl userDetails, UUID storeId, String cursor, int size, boolean withTotal) {
+
+        // 권한 확인 (MASTER만 가능)
+        Set<String> allowedRoles = Set.of("ROLE_MASTER");
+
+        if (!lacksAuthority(userDetails, allowedRoles)) {
+            return ApiResponseDto.fail(403, "열람할 권한이 없습니다.");
+        }
+        Cursor.checkSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Gemini> geminiList;
+        if (storeId != null) {
+            geminiList = after == null
+                    ? geminiRepository.findFirstPageByStoreId(storeId, limit)
+                    : geminiRepository.findNextPageByStoreId(storeId, after.createdAt(), after.id(), limit);
+        } else {
+            geminiList = after == null
+                    ? geminiRepository.findFirstPage(limit)
+                    : geminiRepository.findNextPage(after.createdAt(), after.id(), limit);
+        }
+
+        CursorPageResponseDto<GeminiResponseDto> cursorPage = CursorPageResponseDto.of(
+                geminiList,
+                size,
+                gemini -> new Cursor(gemini.getCreatedAt(), gemini.getId()),
+                GeminiResponseDto::from,
+                null
+        );
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (withTotal) {
+            response.put("totals", storeId != null ? geminiRepository.countByStoreId(storeId) : geminiRepository.count());
+        }
+        response.put("nextCursor", cursorPage.getNextCursor());
+        response.put("hasNext", cursorPage.isHasNext());
+        response.put("pageSize", size);
+        response.put("suggestions", cursorPage.getContent());
+
+        return ApiResponseDto.success(response);
+    }
+
     /* 검색 */
     @Transactional
     public ApiResponseDto<Map<String, Object>> searchSuggestions(
@@ -188,6 +312,11 @@ public class GeminiService {
             return ApiResponseDto.fail(403, "열람할 권한이 없습니다.");
         }
 
+        // 정렬 기준 확인 (인덱스 검색과 같은 createdAt, updatedAt 만 허용)
+        if (!sort.equals("createdAt") && !sort.equals("updatedAt")) {
+            sort = "createdAt"; // 기본값으로 생성일로 설정
+        }
+
         // 정렬 방향 설정 (desc or asc)
         Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, sort));
@@ -195,12 +324,10 @@ public class GeminiService {
         Page<Gemini> geminiPage;
         if (storeId == null && (keyword == null || keyword.isBlank())) {
             geminiPage = geminiRepository.findAll(pageable); // 가게 x, 키워드 o
-        } else if (storeId == null) {
-            geminiPage = geminiRepository.findByResponseTextContaining(keyword, pageable); // 키워드 o,  가게 x
         } else if (keyword == null || keyword.isBlank()) {
             geminiPage = geminiRepository.findByStoreId(storeId, pageable); // 키워드 x, 가게 o
         } else {
-            geminiPage = geminiRepository.findByStoreIdAndResponseTextContaining(storeId, keyword, pageable); // 가게 o, 키워드 x
+            geminiPage = geminiSearchEngine.search(storeId, keyword, pageable); // 키워드 o (가게 o/x), gemini.search.mode 에 따라 LIKE 또는 인덱스 검색
         }
 
         Map<String, Object> response = createPagedResponse(geminiPage);
@@ -208,18 +335,19 @@ public class GeminiService {
         return ApiResponseDto.success(response);
     }
 
-    // gemini 응답 가공하는 메서드
-    private String extractResponseText(String response) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(response);
-            return jsonNode.path("candidates").get(0)
-                    .path("content").path("parts").get(0)
-                    .path("text").asText();
-        } catch (Exception e) {
-            log.error("Gemini API 응답 데이터 파싱 실패", e);
-            throw new GeminiApiException("AI 추천 서비스 응답 데이터 처리 중 오류가 발생했습니다.");
+    private ServerSentEvent<Object> errorEvent(ApiResponseDto<?> responseDto) {
+        return ServerSentEvent.<Object>builder(responseDto).event("error").build();
+    }
+
+    // GeminiExceptionHandler 와 같은 상태 코드/메시지
+    private <T> ApiResponseDto<T> toFailResponse(GeminiException e) {
+        if (e instanceof GeminiTimeoutException) {
+            return ApiResponseDto.fail(504, "AI 추천 서비스 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (e instanceof GeminiServiceUnavailableException) {
+            return ApiResponseDto.fail(503, "현재 AI 추천 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
         }
+        return ApiResponseDto.fail(500, "AI 추천 서비스 요청 중 오류가 발생했습니다.");
     }
 
     // 페이징된 데이터를 반환
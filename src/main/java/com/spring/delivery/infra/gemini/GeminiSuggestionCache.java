@@ -0,0 +1,100 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.global.cache.LocalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 추천 응답 캐시 ((storeId, 정규화된 질문) -> 응답 텍스트).
+ * 같은 질문이 동시에 들어오면 진행 중인 호출 하나를 공유하고(single-flight), 완료된 응답은 TTL 동안 재사용한다.
+ * 지표 : cache.gets{cache=gemini-suggestion} (hit/miss), gemini.suggestion.coalesced, gemini.suggestion.saved (절약한 호출 시간), gemini.suggestion.upstream
+ * cache.gemini-suggestion.enabled=false 이면 매번 Gemini 호출 (기존 동작)
+ */
+@Component
+public class GeminiSuggestionCache {
+
+    private final boolean enabled;
+    private final LocalCache<Key, Suggestion> cache;
+    private final Map<Key, Mono<Suggestion>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalesced;
+    private final Timer savedLatency;
+    private final Timer upstreamLatency;
+
+    public GeminiSuggestionCache(MeterRegistry meterRegistry,
+                                 @Value("${cache.gemini-suggestion.enabled:true}") boolean enabled,
+                                 @Value("${cache.gemini-suggestion.max-size:1000}") int maxSize,
+                                 @Value("${cache.gemini-suggestion.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = new LocalCache<Key, Suggestion>("gemini-suggestion", maxSize, ttl).bindTo(meterRegistry);
+        this.coalesced = meterRegistry.counter("gemini.suggestion.coalesced");
+        this.savedLatency = meterRegistry.timer("gemini.suggestion.saved");
+        this.upstreamLatency = meterRegistry.timer("gemini.suggestion.upstream");
+    }
+
+    // 캐시된 응답이 있으면 바로 반환, 없으면 진행 중인 호출에 합류하거나 loader 로 새로 호출
+    public Mono<String> get(UUID storeId, String requestText, Supplier<Mono<String>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(storeId, normalize(requestText));
+        Suggestion cached = cache.get(key);
+        if (cached != null) {
+            savedLatency.record(cached.latencyNanos(), TimeUnit.NANOSECONDS);
+            return Mono.just(cached.text());
+        }
+
+        boolean[] leader = new boolean[1];
+        Mono<Suggestion> call = inFlight.computeIfAbsent(key, k -> {
+            leader[0] = true;
+            return load(k, loader);
+        });
+        if (!leader[0]) {
+            coalesced.increment();
+            call = call.doOnNext(suggestion -> savedLatency.record(suggestion.latencyNanos(), TimeUnit.NANOSECONDS));
+        }
+        return call.map(Suggestion::text);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 실제 호출은 한 번만 구독되도록 cache() 로 공유하고, 끝나면(성공/실패) 진행 중 목록에서 제거
+    private Mono<Suggestion> load(Key key, Supplier<Mono<String>> loader) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return loader.get().map(text -> new Suggestion(text, System.nanoTime() - start));
+                })
+                .doOnNext(suggestion -> {
+                    upstreamLatency.record(suggestion.latencyNanos(), TimeUnit.NANOSECONDS);
+                    cache.put(key, suggestion);
+                })
+                .doFinally(signal -> inFlight.remove(key))
+                .cache();
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+    static String normalize(String requestText) {
+        return requestText == null ? "" : requestText.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(UUID storeId, String requestText) {
+    }
+
+    private record Suggestion(String text, long latencyNanos) {
+    }
+}
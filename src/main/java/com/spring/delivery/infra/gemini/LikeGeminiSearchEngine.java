@@ -0,0 +1,27 @@
+package com.spring.delivery.infra.gemini;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "gemini.search.mode", havingValue = "like", matchIfMissing = true)
+public class LikeGeminiSearchEngine implements GeminiSearchEngine {
+
+    private final GeminiRepository geminiRepository;
+
+    public LikeGeminiSearchEngine(GeminiRepository geminiRepository) {
+        this.geminiRepository = geminiRepository;
+    }
+
+    @Override
+    public Page<Gemini> search(UUID storeId, String keyword, Pageable pageable) {
+        if (storeId == null) {
+            return geminiRepository.findByResponseTextContaining(keyword, pageable);
+        }
+        return geminiRepository.findByStoreIdAndResponseTextContaining(storeId, keyword, pageable);
+    }
+}
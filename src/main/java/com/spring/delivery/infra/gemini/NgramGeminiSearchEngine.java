@@ -0,0 +1,89 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.event.GeminiChangedEvent;
+import com.spring.delivery.global.search.NgramIndex;
+import com.spring.delivery.infra.gemini.GeminiRepository.GeminiSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gemini.search.mode", havingValue = "ngram")
+public class NgramGeminiSearchEngine implements GeminiSearchEngine {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final GeminiRepository geminiRepository;
+    private final NgramIndex<UUID> index = new NgramIndex<>();
+
+    public NgramGeminiSearchEngine(GeminiRepository geminiRepository) {
+        this.geminiRepository = geminiRepository;
+    }
+
+    // 애플리케이션 시작 시 삭제되지 않은 추천 내역으로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+
+        // 행 수가 많아 offset 페이징 대신 마지막 id 이후부터 필요한 컬럼만 조회
+        UUID lastId = new UUID(0L, 0L);
+        List<GeminiSearchRow> rows;
+        do {
+            rows = geminiRepository.findSearchRowsAfter(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (GeminiSearchRow row : rows) {
+                index.put(row.id(), row.storeId(), row.responseText(), row.createdAt(), row.updatedAt());
+                lastId = row.id();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+
+        log.info("AI 추천 검색 인덱스 구성 완료: {}건", index.size());
+    }
+
+    // 추천 내역 생성/삭제가 커밋된 뒤 인덱스 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGeminiChanged(GeminiChangedEvent event) {
+        geminiRepository.findById(event.getGeminiId())
+                .filter(gemini -> gemini.getDeletedAt() == null)
+                .ifPresentOrElse(this::index, () -> index.remove(event.getGeminiId()));
+    }
+
+    @Override
+    public Page<Gemini> search(UUID storeId, String keyword, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.desc("createdAt"));
+
+        NgramIndex.SearchResult<UUID> result = index.search(
+                keyword,
+                storeId,
+                NgramIndex.SortField.from(order.getProperty()),
+                order.isAscending(),
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+
+        // 인덱스가 정한 순서대로 추천 내역 조회
+        Map<UUID, Gemini> geminis = geminiRepository.findAllById(result.keys()).stream()
+                .collect(Collectors.toMap(Gemini::getId, Function.identity()));
+        List<Gemini> content = result.keys().stream()
+                .map(geminis::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    private void index(Gemini gemini) {
+        index.put(gemini.getId(), gemini.getStore().getId(), gemini.getResponseText(), gemini.getCreatedAt(), gemini.getUpdatedAt());
+    }
+}
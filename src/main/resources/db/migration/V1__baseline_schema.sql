@@ -0,0 +1,191 @@
+-- 기존 JPA(ddl-auto=update)로 만들어지던 스키마 (Hibernate PostgreSQLDialect 기준)
+-- 이미 테이블이 있는 DB 는 baseline(V1)으로 등록되어 이 파일을 건너뛰고 V2 부터 적용됨
+-- 그래서 이 파일은 Flyway 도입 전 스키마와 정확히 같아야 하고, 이후 추가된 테이블/인덱스는 V2 이후에 둔다
+
+create table p_category
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    name varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_delivery_address
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint,
+    id uuid not null,
+    address varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    request varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_gemini
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    store_id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    request_text TEXT not null,
+    response_text TEXT not null,
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_menu
+(
+    public_status boolean,
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    price bigint,
+    updated_at timestamp(6),
+    id uuid not null,
+    store_id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    description varchar(255),
+    menu_image varchar(255),
+    name varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_menu_order
+(
+    amount bigint,
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    menu_id uuid not null,
+    order_id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_order
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    total_price bigint,
+    updated_at timestamp(6),
+    user_id bigint,
+    id uuid not null,
+    address varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    order_status varchar(255),
+    order_type varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_payment
+(
+    payments_status boolean not null,
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    order_id uuid unique,
+    cardnumber varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_review
+(
+    score float(53),
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint,
+    id uuid not null,
+    order_id uuid unique,
+    store_id uuid,
+    contents varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_store
+(
+    end_time time(6),
+    open_status boolean not null,
+    start_time time(6),
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint,
+    id uuid not null,
+    address varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    name varchar(255),
+    tel varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_store_category
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    category_id uuid,
+    id uuid not null,
+    store_id uuid,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table p_users
+(
+    created_at timestamp(6),
+    deleted_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('CUSTOMER','OWNER','MANAGER','MASTER')),
+    updated_by varchar(255),
+    username varchar(255) not null unique,
+    primary key (id)
+);
+
+alter table if exists p_delivery_address add constraint FKrtsd4cm8iks4xvkk85vey0hdw foreign key (user_id) references p_users;
+alter table if exists p_gemini add constraint FK85hmbrh6ixnvkpglrj3y2gk1y foreign key (store_id) references p_store;
+alter table if exists p_menu add constraint FKax3bj8vex6c9vm2w5k8t6y9lx foreign key (store_id) references p_store;
+alter table if exists p_menu_order add constraint FKjljeo26g7umlx5k7qi55yxkb3 foreign key (menu_id) references p_menu;
+alter table if exists p_menu_order add constraint FK8hu89sqllepyy9l0chv8mdwxi foreign key (order_id) references p_order;
+alter table if exists p_order add constraint FKdghxhc5upfdhmn08h3e3sfmt9 foreign key (user_id) references p_users;
+alter table if exists p_payment add constraint FKcocdwqnbh8xtvk4gdifa84o6a foreign key (order_id) references p_order;
+alter table if exists p_review add constraint FK6qla61587i8orgjdf09ny2kru foreign key (order_id) references p_order;
+alter table if exists p_review add constraint FKqfjfblxc0uv1bnkfm38xrkkpx foreign key (store_id) references p_store;
+alter table if exists p_review add constraint FKimbc6ew61lyiddcocem41d8m8 foreign key (user_id) references p_users;
+alter table if exists p_store add constraint FKt0cqa7pyqclhoh8o7nt15a2bm foreign key (user_id) references p_users;
+alter table if exists p_store_category add constraint FKtptg2os8lbycf7ts6nwoewkmo foreign key (category_id) references p_category;
+alter table if exists p_store_category add constraint FK5xwl9dpya4yshrxp9mx53ph1h foreign key (store_id) references p_store;
@@ -0,0 +1,58 @@
+-- Flyway 도입 전에 JPA 로 추가되던 집계 테이블/인덱스와 자주 실행되는 조회 조건용 인덱스
+-- baseline(V1)으로 등록된 기존 DB 에도 적용되어야 하므로 이미 있을 수 있는 객체는 if not exists 로 생성
+
+-- ===== 가게별 평점 집계 (StoreRating) =====
+create table if not exists p_store_rating
+(
+    score_sum float(53) not null,
+    review_count bigint not null,
+    star1count bigint not null,
+    star2count bigint not null,
+    star3count bigint not null,
+    star4count bigint not null,
+    star5count bigint not null,
+    updated_at timestamp(6),
+    store_id uuid not null,
+    primary key (store_id)
+);
+
+-- 모든 가게의 집계를 삭제되지 않은 리뷰로 채움 (리뷰가 없는 가게는 0건)
+-- 별점 구간은 StoreRating.adjustHistogram 과 같게 반올림(0.5 올림) 후 1~5 로 자름
+insert into p_store_rating (score_sum, review_count, star1count, star2count, star3count, star4count, star5count, updated_at, store_id)
+select coalesce(sum(r.score), 0),
+       count(r.score),
+       count(r.score) filter (where least(5, greatest(1, floor(r.score + 0.5))) = 1),
+       count(r.score) filter (where least(5, greatest(1, floor(r.score + 0.5))) = 2),
+       count(r.score) filter (where least(5, greatest(1, floor(r.score + 0.5))) = 3),
+       count(r.score) filter (where least(5, greatest(1, floor(r.score + 0.5))) = 4),
+       count(r.score) filter (where least(5, greatest(1, floor(r.score + 0.5))) = 5),
+       now(),
+       s.id
+from p_store s
+         left join p_review r on r.store_id = s.id and r.deleted_at is null and r.score is not null
+group by s.id
+on conflict (store_id) do nothing;
+
+-- ===== 목록/커서 조회 인덱스 (엔티티 @Index 와 같은 이름) =====
+create index if not exists idx_gemini_created on p_gemini (created_at, id);
+create index if not exists idx_gemini_store_created on p_gemini (store_id, created_at, id);
+create index if not exists idx_menu_order_order on p_menu_order (order_id);
+create index if not exists idx_order_user_status_created on p_order (user_id, order_status, created_at, id);
+create index if not exists idx_review_store_created on p_review (store_id, created_at, id);
+create index if not exists idx_store_created on p_store (created_at, id);
+
+-- ===== 자주 실행되는 조회 조건용 부분 인덱스 =====
+-- 삭제(soft delete)된 행은 조회하지 않으므로 가능한 곳은 부분 인덱스로 크기를 줄임
+-- (p_order 의 user_id, order_status 조건은 위의 idx_order_user_status_created 가 처리)
+
+-- 가게별 공개 메뉴 목록 (MenuRepository.findActiveMenusByStoreId, 메뉴 삭제 시 public_status = false)
+create index if not exists idx_menu_store_public_created on p_menu (store_id, created_at) where public_status = true;
+
+-- 가게별 리뷰 목록/커서/평점 집계 (ReviewRepository, 삭제되지 않은 리뷰만 조회)
+create index if not exists idx_review_store_active_created on p_review (store_id, created_at, id) where deleted_by is null;
+
+-- 가게-카테고리 연결 조회 (StoreCategoryRepository.findByStoreIdAndCategoryId, findCategoryNamesByStoreIds)
+create index if not exists idx_store_category_store_category on p_store_category (store_id, category_id);
+
+-- 삭제되지 않은 가게 목록/커서 (StoreRepository.findByDeletedAtIsNull, findFirstPage, findNextPage)
+create index if not exists idx_store_active_created on p_store (created_at, id) where deleted_at is null;
@@ -0,0 +1,4 @@
+-- soft delete 필터(BaseEntity)는 deleted_at is null 조건을 붙이므로
+-- deleted_by 기준으로 만든 리뷰 부분 인덱스를 deleted_at 기준으로 교체
+drop index if exists idx_review_store_active_created;
+create index if not exists idx_review_store_active_created on p_review (store_id, created_at, id) where deleted_at is null;
@@ -0,0 +1,185 @@
+-- 오래된 삭제 행/완료 주문 보관과 p_order, p_gemini 월 단위 파티셔닝
+-- 보관 테이블은 ArchiveJob 이, 다음 달 파티션은 PartitionMaintainer 가 관리
+
+-- ===== 보관(archive) 테이블 =====
+-- 원본 테이블과 같은 컬럼 + archived_at (조회 API 에서는 사용하지 않음)
+create table p_order_archive (like p_order including defaults);
+alter table p_order_archive add column archived_at timestamp(6) not null default now();
+alter table p_order_archive add primary key (id);
+
+create table p_menu_order_archive (like p_menu_order including defaults);
+alter table p_menu_order_archive add column archived_at timestamp(6) not null default now();
+alter table p_menu_order_archive add primary key (id);
+
+create table p_payment_archive (like p_payment including defaults);
+alter table p_payment_archive add column archived_at timestamp(6) not null default now();
+alter table p_payment_archive add primary key (id);
+
+create table p_review_archive (like p_review including defaults);
+alter table p_review_archive add column archived_at timestamp(6) not null default now();
+alter table p_review_archive add primary key (id);
+
+create table p_gemini_archive (like p_gemini including defaults);
+alter table p_gemini_archive add column archived_at timestamp(6) not null default now();
+alter table p_gemini_archive add primary key (id);
+
+create index idx_order_archive_user on p_order_archive (user_id, created_at);
+create index idx_menu_order_archive_order on p_menu_order_archive (order_id);
+
+-- ===== 월 단위 파티션 생성 함수 =====
+-- <parent>_YYYYMM 파티션을 만든다 (이미 있으면 무시)
+create or replace function p_create_month_partition(parent text, month_start date) returns void as $$
+begin
+    execute format('create table if not exists %I partition of %I for values from (%L) to (%L)',
+                   parent || '_' || to_char(month_start, 'YYYYMM'),
+                   parent,
+                   date_trunc('month', month_start)::date,
+                   (date_trunc('month', month_start) + interval '1 month')::date);
+end;
+$$ language plpgsql;
+
+-- ===== p_order 파티셔닝 =====
+-- 파티션 테이블의 unique 제약에는 파티션 키(created_at)가 포함되어야 하므로 p_order(id) 를 참조하는 FK 는 제거하고
+-- 아래 "p_order 참조 무결성" 트리거로 대신 확인
+-- id 만으로 조회/삭제하면 (findById, 보관 작업의 DELETE ... WHERE id IN) created_at 조건이 없어 파티션 제거가 안 되므로
+-- 모든 월 파티션의 PK 인덱스를 한 번씩 조회함 (파티션 수만큼 인덱스 조회가 늘어나는 대신 월 단위 보관/삭제가 쉬워짐)
+alter table p_menu_order drop constraint FK8hu89sqllepyy9l0chv8mdwxi;
+alter table p_payment drop constraint FKcocdwqnbh8xtvk4gdifa84o6a;
+alter table p_review drop constraint FK6qla61587i8orgjdf09ny2kru;
+
+alter table p_order rename to p_order_legacy;
+alter index p_order_pkey rename to p_order_legacy_pkey;
+alter index idx_order_user_status_created rename to idx_order_legacy_user_status_created;
+
+create table p_order
+(
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    total_price bigint,
+    updated_at timestamp(6),
+    user_id bigint,
+    id uuid not null,
+    address varchar(255),
+    created_by varchar(255),
+    deleted_by varchar(255),
+    order_status varchar(255),
+    order_type varchar(255),
+    updated_by varchar(255),
+    primary key (id, created_at)
+) partition by range (created_at);
+
+create table p_order_default partition of p_order default;
+
+-- 기존 데이터가 있는 달부터 3개월 뒤까지 파티션 생성 (이후는 PartitionMaintainer 가 생성)
+do $$
+declare
+    month_start date := date_trunc('month', coalesce((select min(created_at) from p_order_legacy), now()))::date;
+begin
+    while month_start <= (date_trunc('month', now()) + interval '3 months')::date loop
+        perform p_create_month_partition('p_order', month_start);
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end
+$$;
+
+insert into p_order (created_at, deleted_at, total_price, updated_at, user_id, id, address,
+                     created_by, deleted_by, order_status, order_type, updated_by)
+select coalesce(created_at, updated_at, now()), deleted_at, total_price, updated_at, user_id, id, address,
+       created_by, deleted_by, order_status, order_type, updated_by
+from p_order_legacy;
+
+drop table p_order_legacy;
+
+create index idx_order_user_status_created on p_order (user_id, order_status, created_at, id);
+alter table p_order add constraint FKdghxhc5upfdhmn08h3e3sfmt9 foreign key (user_id) references p_users;
+
+-- ===== p_order 참조 무결성 =====
+-- 제거한 p_menu_order, p_payment, p_review -> p_order FK 대신 트리거로 확인 (위반 시 FK 와 같은 23503 foreign_key_violation)
+-- 하위 행 insert/update : 주문이 있는지 확인하고 FK 와 같이 주문 행을 FOR KEY SHARE 로 잠가 동시에 삭제되지 않게 함
+-- 주문 delete/id 변경 : 참조하는 하위 행이 남아있으면 실패 (보관 작업은 메뉴 주문/결제를 먼저 옮기고, 리뷰가 남은 주문은 옮기지 않음)
+-- 하위 테이블의 order_id 는 모두 인덱스(idx_menu_order_order, p_payment/p_review 의 unique)가 있음
+create function p_check_order_exists() returns trigger as $$
+begin
+    if new.order_id is null then
+        return null;
+    end if;
+    perform 1 from p_order where id = new.order_id for key share;
+    if not found then
+        raise exception 'insert or update on table "%" violates foreign key: order_id % is not present in table "p_order"',
+            tg_table_name, new.order_id
+            using errcode = 'foreign_key_violation';
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+create function p_check_order_not_referenced() returns trigger as $$
+begin
+    -- 같은 id 가 남아있으면 (파티션 간 이동 등) 참조는 그대로 유효
+    if exists (select 1 from p_order where id = old.id) then
+        return null;
+    end if;
+    if exists (select 1 from p_menu_order where order_id = old.id)
+        or exists (select 1 from p_payment where order_id = old.id)
+        or exists (select 1 from p_review where order_id = old.id) then
+        raise exception 'update or delete on table "p_order" violates foreign key: order % is still referenced', old.id
+            using errcode = 'foreign_key_violation';
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger trg_menu_order_order_exists after insert or update of order_id on p_menu_order
+    for each row execute function p_check_order_exists();
+create trigger trg_payment_order_exists after insert or update of order_id on p_payment
+    for each row execute function p_check_order_exists();
+create trigger trg_review_order_exists after insert or update of order_id on p_review
+    for each row execute function p_check_order_exists();
+create trigger trg_order_not_referenced after delete or update of id on p_order
+    for each row execute function p_check_order_not_referenced();
+
+-- ===== p_gemini 파티셔닝 =====
+alter table p_gemini rename to p_gemini_legacy;
+alter index p_gemini_pkey rename to p_gemini_legacy_pkey;
+alter index idx_gemini_created rename to idx_gemini_legacy_created;
+alter index idx_gemini_store_created rename to idx_gemini_legacy_store_created;
+
+create table p_gemini
+(
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    updated_at timestamp(6),
+    id uuid not null,
+    store_id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    request_text TEXT not null,
+    response_text TEXT not null,
+    updated_by varchar(255),
+    primary key (id, created_at)
+) partition by range (created_at);
+
+create table p_gemini_default partition of p_gemini default;
+
+do $$
+declare
+    month_start date := date_trunc('month', coalesce((select min(created_at) from p_gemini_legacy), now()))::date;
+begin
+    while month_start <= (date_trunc('month', now()) + interval '3 months')::date loop
+        perform p_create_month_partition('p_gemini', month_start);
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end
+$$;
+
+insert into p_gemini (created_at, deleted_at, updated_at, id, store_id, created_by, deleted_by,
+                      request_text, response_text, updated_by)
+select coalesce(created_at, updated_at, now()), deleted_at, updated_at, id, store_id, created_by, deleted_by,
+       request_text, response_text, updated_by
+from p_gemini_legacy;
+
+drop table p_gemini_legacy;
+
+create index idx_gemini_created on p_gemini (created_at, id);
+create index idx_gemini_store_created on p_gemini (store_id, created_at, id);
+alter table p_gemini add constraint FK85hmbrh6ixnvkpglrj3y2gk1y foreign key (store_id) references p_store;
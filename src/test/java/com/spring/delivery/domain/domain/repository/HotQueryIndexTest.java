@@ -0,0 +1,415 @@
+package com.spring.delivery.domain.domain.repository;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자주 실행되는 Repository 조회가 실제로 보내는 SQL 의 실행 계획에 Seq Scan 이 없는지 확인 (PostgreSQL 전용).
+ * H2 테스트 환경에서는 실행되지 않고, EXPLAIN_TEST_DB_URL(및 EXPLAIN_TEST_DB_USERNAME, EXPLAIN_TEST_DB_PASSWORD)이 있을 때만 실행된다.
+ * 별도 스키마에 마이그레이션을 적용한 뒤 Repository 메서드를 호출하고, Hibernate 가 만든 SQL 과 바인딩된 파라미터를
+ * DataSource 에서 기록해 그대로 EXPLAIN 한다. 값을 바인딩한 계획과, PREPARE 후 plan_cache_mode=force_generic_plan 으로 만든
+ * 일반 계획(값과 무관하게 캐시되는 계획) 모두 확인한다.
+ * 테스트가 끝나면 스키마를 지운다.
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_TEST_DB_URL", matches = ".+")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryIndexTest {
+
+    private static final String SCHEMA = "explain_test";
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("EXPLAIN_TEST_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("EXPLAIN_TEST_DB_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("EXPLAIN_TEST_DB_PASSWORD", ""));
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.hikari.schema", () -> SCHEMA);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.schemas", () -> SCHEMA);
+        registry.add("spring.flyway.clean-disabled", () -> "false");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.use_sql_comments", () -> "false");
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        // 이전 실행에서 남은 스키마를 지우고 처음부터 마이그레이션
+        @Bean
+        FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)
+                            ? new RecordingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StoreCategoryRepository storeCategoryRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private final UUID someId = UUID.randomUUID();
+    private final LocalDateTime someTime = LocalDateTime.now();
+    private final AtomicInteger preparedCount = new AtomicInteger();
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Connection connection = recording().getTargetDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @Test
+    @DisplayName("가게별 공개 메뉴 목록 조회(목록 + count)는 인덱스 사용")
+    void activeMenusByStore() throws SQLException {
+        // 두 번째 페이지를 조회해야 count 쿼리도 실행됨
+        assertNoSeqScan(capture(() -> menuRepository.findActiveMenusByStoreId(someId,
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")))), 2);
+    }
+
+    @Test
+    @DisplayName("가게별 리뷰 커서 조회는 인덱스 사용")
+    void activeReviewsByStore() throws SQLException {
+        assertNoSeqScan(capture(() -> reviewRepository.findFirstPageByStoreId(someId, Limit.of(11))), 1);
+        assertNoSeqScan(capture(() -> reviewRepository.findNextPageByStoreId(someId, someTime, someId, Limit.of(11))), 1);
+    }
+
+    @Test
+    @DisplayName("사용자별 주문 커서 조회/건수는 (user_id, order_status) 인덱스 조건 사용")
+    void ordersByUserAndStatus() throws SQLException {
+        List<RecordedStatement> statements = capture(() -> {
+            orderRepository.findFirstPageByUserIdAndOrderStatus(1L, "PENDING", Limit.of(11));
+            orderRepository.findNextPageByUserIdAndOrderStatus(1L, "PENDING", someTime, someId, Limit.of(11));
+            orderRepository.countByUserIdAndOrderStatus(1L, "PENDING");
+            orderRepository.findFirstPageByUserIdAndOrderStatusIsNull(1L, Limit.of(11));
+            orderRepository.findNextPageByUserIdAndOrderStatusIsNull(1L, someTime, someId, Limit.of(11));
+            orderRepository.countByUserIdAndOrderStatusIsNull(1L);
+        });
+        assertNoSeqScan(statements, 6);
+
+        // 상태 조건이 filter 로 빠지지 않고 인덱스 조건에 들어가는지 (일반 계획 포함)
+        for (RecordedStatement statement : statements) {
+            for (String plan : explainAll(statement)) {
+                assertIndexCondition(statement, plan, " on p_order", "order_status");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가게-카테고리 연결 조회는 인덱스 사용")
+    void storeCategoryByStoreAndCategory() throws SQLException {
+        assertNoSeqScan(capture(() -> storeCategoryRepository.findByStoreIdAndCategoryId(someId, someId)), 1);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 가게 커서 조회는 인덱스 사용")
+    void activeStores() throws SQLException {
+        assertNoSeqScan(capture(() -> storeRepository.findFirstPage(Limit.of(11))), 1);
+        assertNoSeqScan(capture(() -> storeRepository.findNextPage(someTime, someId, Limit.of(11))), 1);
+    }
+
+    // 서비스와 같이 트랜잭션 안에서 (soft delete 필터 적용) 조회하고, 그 동안 실행된 SQL 기록
+    private List<RecordedStatement> capture(Runnable query) {
+        RecordingDataSource recording = recording();
+        recording.start();
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> query.run());
+        } finally {
+            recording.stop();
+        }
+        return recording.recorded();
+    }
+
+    private void assertNoSeqScan(List<RecordedStatement> statements, int expectedStatements) throws SQLException {
+        assertEquals(expectedStatements, statements.size(), statements.toString());
+        for (RecordedStatement statement : statements) {
+            for (String plan : explainAll(statement)) {
+                assertFalse(plan.contains("Seq Scan"), statement.sql() + "\n" + plan);
+            }
+        }
+    }
+
+    // table 을 읽는 스캔 노드마다 바로 아래 Index Cond 에 column 조건이 있는지 (파티션별 스캔 포함)
+    private void assertIndexCondition(RecordedStatement statement, String plan, String table, String column) {
+        List<String> lines = plan.lines().toList();
+        int scans = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).contains(table)) {
+                scans++;
+                String condition = i + 1 < lines.size() ? lines.get(i + 1) : "";
+                assertTrue(condition.contains("Index Cond") && condition.contains(column), statement.sql() + "\n" + plan);
+            }
+        }
+        assertTrue(scans > 0, statement.sql() + "\n" + plan);
+    }
+
+    // 바인딩된 값으로 계획한 결과와 캐시된 일반 계획
+    private List<String> explainAll(RecordedStatement statement) throws SQLException {
+        try (Connection connection = recording().getTargetDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement settings = connection.createStatement()) {
+                // 빈 테이블에서는 Seq Scan 이 더 싸므로, 사용할 수 있는 인덱스가 있으면 인덱스를 타도록 강제
+                settings.execute("SET LOCAL enable_seqscan = off");
+            }
+
+            List<String> plans = new ArrayList<>();
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                statement.bind(explain);
+                plans.add(read(explain));
+            }
+            // 캐시된 일반 계획 (바인딩된 값이 계획에 반영되지 않도록 서버에서 PREPARE 한 뒤 EXECUTE 를 EXPLAIN)
+            // (PREPARE 는 롤백되지 않으므로 실패해도 다음 조회와 겹치지 않게 이름을 매번 새로 정함)
+            String name = "hot_query_" + preparedCount.incrementAndGet();
+            try (Statement generic = connection.createStatement()) {
+                generic.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                generic.execute("PREPARE " + name + statement.parameterTypes() + " AS " + numbered(statement.sql()));
+                try (ResultSet resultSet = generic.executeQuery("EXPLAIN EXECUTE " + name + statement.arguments())) {
+                    plans.add(read(resultSet));
+                }
+                generic.execute("DEALLOCATE " + name);
+            }
+            connection.rollback();
+            return plans;
+        }
+    }
+
+    private String read(PreparedStatement explain) throws SQLException {
+        try (ResultSet resultSet = explain.executeQuery()) {
+            return read(resultSet);
+        }
+    }
+
+    private String read(ResultSet resultSet) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        while (resultSet.next()) {
+            lines.add(resultSet.getString(1));
+        }
+        return String.join("\n", lines);
+    }
+
+    // JDBC 의 ? 를 PREPARE 에서 쓰는 $1, $2 ... 로 변경 (문자열 리터럴 안은 그대로)
+    private String numbered(String sql) {
+        StringBuilder builder = new StringBuilder();
+        boolean inLiteral = false;
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                builder.append('$').append(++index);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private RecordingDataSource recording() {
+        return (RecordingDataSource) dataSource;
+    }
+
+    // 실행된 SQL 과 파라미터 바인딩 (setXxx(index, value, ...) 호출을 순서대로 기록)
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                invoke(binding.method(), statement, binding.args());
+            }
+        }
+
+        // PREPARE 파라미터 타입 목록 (바인딩된 값의 타입, "? IS NULL" 처럼 SQL 만으로 타입을 알 수 없는 경우 대비)
+        String parameterTypes() {
+            if (bindings.isEmpty()) {
+                return "";
+            }
+            return bindings.stream()
+                    .map(binding -> sqlType(binding.method().getName().equals("setNull") ? null : binding.args()[1]))
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+
+        private static String sqlType(Object value) {
+            if (value instanceof String) {
+                return "text";
+            }
+            if (value instanceof Long) {
+                return "bigint";
+            }
+            if (value instanceof Integer) {
+                return "integer";
+            }
+            if (value instanceof Boolean) {
+                return "boolean";
+            }
+            if (value instanceof UUID) {
+                return "uuid";
+            }
+            if (value instanceof java.sql.Timestamp || value instanceof LocalDateTime) {
+                return "timestamp";
+            }
+            return "unknown";
+        }
+
+        // EXECUTE 인자 목록 (문자열 리터럴로 넘겨 PREPARE 의 파라미터 타입으로 변환)
+        String arguments() {
+            if (bindings.isEmpty()) {
+                return "";
+            }
+            return bindings.stream()
+                    .map(binding -> binding.method().getName().equals("setNull") || binding.args()[1] == null
+                            ? "NULL"
+                            : "'" + binding.args()[1].toString().replace("'", "''") + "'")
+                    .collect(Collectors.joining(", ", "(", ")"));
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    // 기록 중인 동안 준비된 PreparedStatement 의 SQL 과 파라미터를 기록하는 DataSource
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        void start() {
+            recorded.clear();
+            recording = true;
+        }
+
+        void stop() {
+            recording = false;
+        }
+
+        List<RecordedStatement> recorded() {
+            return List.copyOf(recorded);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(method, connection, args);
+                        if (recording && method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return record(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement record(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new CopyOnWriteArrayList<>();
+            recorded.add(new RecordedStatement(sql, bindings));
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args.clone()));
+                        }
+                        return invoke(method, statement, args);
+                    });
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.spring.delivery.domain.domain.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.function.Executable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * p_order 파티셔닝으로 제거한 p_menu_order, p_payment, p_review -> p_order FK 를 대신하는 트리거 확인 (PostgreSQL 전용).
+ * HotQueryIndexTest 와 같이 EXPLAIN_TEST_DB_URL 이 있을 때만 별도 스키마에 마이그레이션을 적용해 실행하고, 끝나면 스키마를 지운다.
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_TEST_DB_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderReferenceTriggerTest {
+
+    private static final String SCHEMA = "order_reference_test";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private final String url = System.getenv("EXPLAIN_TEST_DB_URL");
+    private final String username = System.getenv().getOrDefault("EXPLAIN_TEST_DB_USERNAME", "postgres");
+    private final String password = System.getenv().getOrDefault("EXPLAIN_TEST_DB_PASSWORD", "");
+
+    private Connection connection;
+    private UUID menuId;
+
+    @BeforeAll
+    void migrate() throws SQLException {
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .schemas(SCHEMA)
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(url, username, password);
+        connection.setSchema(SCHEMA);
+
+        UUID storeId = UUID.randomUUID();
+        menuId = UUID.randomUUID();
+        execute("insert into p_store (id, open_status) values (?, true)", storeId);
+        execute("insert into p_menu (id, store_id) values (?, ?)", menuId, storeId);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("없는 주문을 참조하는 메뉴 주문/결제/리뷰는 저장 실패")
+    void insertOrphan_fails() {
+        UUID orderId = UUID.randomUUID();
+
+        assertForeignKeyViolation(() -> insertMenuOrder(orderId));
+        assertForeignKeyViolation(() -> execute(
+                "insert into p_payment (id, order_id, payments_status) values (?, ?, true)", UUID.randomUUID(), orderId));
+        assertForeignKeyViolation(() -> execute(
+                "insert into p_review (id, order_id) values (?, ?)", UUID.randomUUID(), orderId));
+    }
+
+    @Test
+    @DisplayName("메뉴 주문의 order_id 를 없는 주문으로 바꾸면 실패")
+    void updateToOrphan_fails() throws SQLException {
+        UUID orderId = insertOrder();
+        UUID menuOrderId = insertMenuOrder(orderId);
+
+        assertForeignKeyViolation(() -> execute(
+                "update p_menu_order set order_id = ? where id = ?", UUID.randomUUID(), menuOrderId));
+    }
+
+    @Test
+    @DisplayName("메뉴 주문/결제가 남은 주문은 삭제 실패, 하위 행을 먼저 지우면 삭제됨")
+    void deleteReferencedOrder_failsUntilChildrenDeleted() throws SQLException {
+        UUID orderId = insertOrder();
+        insertMenuOrder(orderId);
+        execute("insert into p_payment (id, order_id, payments_status) values (?, ?, true)", UUID.randomUUID(), orderId);
+
+        assertForeignKeyViolation(() -> execute("delete from p_order where id = ?", orderId));
+
+        execute("delete from p_menu_order where order_id = ?", orderId);
+        assertForeignKeyViolation(() -> execute("delete from p_order where id = ?", orderId));
+
+        execute("delete from p_payment where order_id = ?", orderId);
+        assertEquals(1, execute("delete from p_order where id = ?", orderId));
+    }
+
+    @Test
+    @DisplayName("리뷰가 남은 주문은 삭제 실패")
+    void deleteReviewedOrder_fails() throws SQLException {
+        UUID orderId = insertOrder();
+        execute("insert into p_review (id, order_id) values (?, ?)", UUID.randomUUID(), orderId);
+
+        assertForeignKeyViolation(() -> execute("delete from p_order where id = ?", orderId));
+    }
+
+    @Test
+    @DisplayName("주문의 created_at 을 바꿔 다른 파티션으로 옮겨도 참조는 유지됨")
+    void moveOrderAcrossPartitions_keepsReferences() throws SQLException {
+        UUID orderId = insertOrder();
+        insertMenuOrder(orderId);
+
+        assertEquals(1, execute("update p_order set created_at = created_at - interval '2 years' where id = ?", orderId));
+    }
+
+    private UUID insertOrder() throws SQLException {
+        UUID orderId = UUID.randomUUID();
+        execute("insert into p_order (id, created_at) values (?, now())", orderId);
+        return orderId;
+    }
+
+    private UUID insertMenuOrder(UUID orderId) throws SQLException {
+        UUID menuOrderId = UUID.randomUUID();
+        execute("insert into p_menu_order (id, menu_id, order_id) values (?, ?, ?)", menuOrderId, menuId, orderId);
+        return menuOrderId;
+    }
+
+    private int execute(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    private void assertForeignKeyViolation(Executable executable) {
+        SQLException exception = assertThrows(SQLException.class, executable);
+        assertEquals(FOREIGN_KEY_VIOLATION, exception.getSQLState(), exception.getMessage());
+    }
+}
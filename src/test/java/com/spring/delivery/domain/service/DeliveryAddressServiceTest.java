@@ -32,7 +32,6 @@ class DeliveryAddressServiceTest {
 
     private static final String CREATE_SUCCESS_MESSAGE = "배송지가 생성되었습니다";
     private static final String UPDATE_SUCCESS_MESSAGE = "배송지가 수정되었습니다.";
-    private static final String ALREADY_DELETE_DATA_MESSAGE = "삭제된 데이터입니다";
     private static final String ALREADY_DATA_MESSAGE = "이미 존재하는 배송지입니다.";
     private static final String MAXIMUM_DATA_MESSAGE = "최대 배송지는 3개입니다.";
     private static final String SAME_DATA_MESSAGE = "수정할 배송지와 기존 배송지가 같습니다.";
@@ -234,7 +233,7 @@ class DeliveryAddressServiceTest {
                 deliveryAddressService.selectDeliveryAddress(deliveryAddress.getId(), userDetails));
 
         assertNotNull(noSuchElementException);
-        assertEquals(ALREADY_DELETE_DATA_MESSAGE, noSuchElementException.getMessage());
+        assertEquals(NO_DATA_MESSAGE, noSuchElementException.getMessage());
     }
 
     @Test
@@ -0,0 +1,212 @@
+package com.spring.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.MenuResponseDto;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.MenuChangedEvent;
+import com.spring.delivery.domain.service.cache.MenuCatalogCache;
+import com.spring.delivery.global.cache.KeyVersions;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MenuServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private UserDetailsImpl owner;
+    private Store store;
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        User user = userRepository.save(User.createUser("menuOwner", "menu@example.com", "password", Role.OWNER));
+        owner = new UserDetailsImpl(user);
+        store = storeRepository.save(Store.of("menu store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, user));
+        token = jwtUtil.createToken(user.getUsername(), user.getRole());
+    }
+
+    // 커밋 후 무효화를 확인하려고 트랜잭션 없이 저장했으므로 직접 정리 (다른 테스트의 사용자 삭제와 충돌 방지)
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM p_menu WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_store WHERE id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_users WHERE username = ?", "menuOwner");
+    }
+
+    @Test
+    @DisplayName("메뉴 목록: 캐시 히트 시 같은 ETag, If-None-Match 일치 시 304, 메뉴 수정 후 새 응답")
+    void getMenus_cachedWithETag() throws Exception {
+        UUID menuId = createMenu("짜장면").getId();
+        createMenu("짬뽕");
+        String path = "/api/menus?store_id=" + store.getId();
+
+        HttpResponse<String> first = get(path, null);
+        assertEquals(200, first.statusCode());
+        assertTrue(first.body().contains("\"totalMenus\":2"));
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        double hitsBefore = hits("menu-catalog");
+        HttpResponse<String> notModified = get(path, etag);
+        assertEquals(304, notModified.statusCode());
+        assertTrue(notModified.body().isEmpty());
+        assertEquals(hitsBefore + 1, hits("menu-catalog"));
+
+        // 수정 커밋 후 가게 버전이 올라가 이전 ETag 로는 304 가 나오지 않음
+        assertEquals(200, menuService.updateMenu(menuId, menuRequest("간짜장"), owner).getStatus());
+
+        HttpResponse<String> changed = get(path, etag);
+        assertEquals(200, changed.statusCode());
+        assertTrue(changed.body().contains("간짜장"));
+        assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("메뉴 단건: If-None-Match 일치 시 304, 삭제 후 404 (실패 응답은 캐시하지 않음)")
+    void getMenuDetail_cachedUntilDeleted() throws Exception {
+        UUID menuId = createMenu("탕수육").getId();
+        String path = "/api/menus/" + menuId;
+
+        HttpResponse<String> first = get(path, null);
+        assertEquals(200, first.statusCode());
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(304, get(path, etag).statusCode());
+
+        assertEquals(200, menuService.deleteMenu(menuId, owner).getStatus());
+
+        HttpResponse<String> deleted = get(path, etag);
+        assertEquals(404, deleted.statusCode());
+        assertTrue(deleted.headers().firstValue("ETag").isEmpty());
+    }
+
+    @Test
+    @DisplayName("메뉴 단건: 조회 중에 수정이 커밋되면 조회 결과(이전 내용)는 이후 요청에 사용되지 않음")
+    void getMenuDetail_staleLoadNotServed() {
+        UUID menuId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // 이전 내용을 읽은 뒤, 저장하기 전에 수정 커밋(무효화)이 끝난 상황
+        MenuCatalogCache.Payload stale = menuCatalogCache.getMenuDetail(menuId, () -> {
+            loads.incrementAndGet();
+            menuCatalogCache.onMenuChanged(new MenuChangedEvent(store.getId(), menuId));
+            return ApiResponseDto.success("old");
+        });
+        assertEquals(200, stale.status());
+
+        MenuCatalogCache.Payload fresh = menuCatalogCache.getMenuDetail(menuId, () -> {
+            loads.incrementAndGet();
+            return ApiResponseDto.success("new");
+        });
+        assertEquals(2, loads.get());
+        assertNotEquals(stale.etag(), fresh.etag());
+
+        // 새 내용은 캐시되어 다시 조회하지 않음
+        assertEquals(fresh.etag(), menuCatalogCache.getMenuDetail(menuId, () -> {
+            throw new AssertionError("cached payload expected");
+        }).etag());
+    }
+
+    @Test
+    @DisplayName("메뉴 캐시 버전은 최대 크기를 넘지 않고, 버전이 지워진 메뉴도 이전 내용을 다시 사용하지 않음")
+    void menuVersions_bounded() {
+        MenuCatalogCache cache = new MenuCatalogCache(objectMapper, new SimpleMeterRegistry(), 2, Duration.ofMinutes(10));
+        UUID menuId = UUID.randomUUID();
+        MenuCatalogCache.Payload stale = cache.getMenuDetail(menuId, () -> ApiResponseDto.success("old"));
+
+        cache.onMenuChanged(new MenuChangedEvent(store.getId(), menuId));
+        for (int i = 0; i < 10; i++) {
+            cache.onMenuChanged(new MenuChangedEvent(UUID.randomUUID(), UUID.randomUUID()));
+        }
+
+        assertEquals(2, ((KeyVersions<?>) ReflectionTestUtils.getField(cache, "storeVersions")).size());
+        assertEquals(2, ((KeyVersions<?>) ReflectionTestUtils.getField(cache, "menuVersions")).size());
+        assertNotEquals(stale.etag(), cache.getMenuDetail(menuId, () -> ApiResponseDto.success("new")).etag());
+    }
+
+    private MenuResponseDto createMenu(String name) {
+        ApiResponseDto<MenuResponseDto> response = menuService.createMenu(menuRequest(name), owner);
+        assertEquals(200, response.getStatus());
+        return response.getData();
+    }
+
+    private MenuRequestDto menuRequest(String name) {
+        MenuRequestDto requestDto = new MenuRequestDto();
+        ReflectionTestUtils.setField(requestDto, "name", name);
+        ReflectionTestUtils.setField(requestDto, "price", 7000L);
+        ReflectionTestUtils.setField(requestDto, "publicStatus", true);
+        ReflectionTestUtils.setField(requestDto, "storeId", store.getId());
+        return requestDto;
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                // 로그인 응답의 token 값("Bearer ..." 포함)에 다시 Bearer 를 붙여 보내는 현재 클라이언트 방식
+                .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token)
+                .GET();
+        if (ifNoneMatch != null) {
+            builder.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private double hits(String cacheName) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", "hit").functionCounter().count();
+    }
+}
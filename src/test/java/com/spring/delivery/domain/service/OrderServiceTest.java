@@ -0,0 +1,305 @@
+package com.spring.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
+import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderLineResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderPageResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuOrderRepository menuOrderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("주문 생성 시 메뉴 라인 모두 저장")
+    @Transactional
+    void createOrder_savesAllMenuLines() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 5);
+
+        ApiResponseDto<OrderResponseDto> response = orderService.createOrder(orderRequest(customer, menus));
+        entityManager.flush();
+
+        assertEquals(200, response.getStatus());
+        assertEquals(5, menuOrderRepository.findByOrderId(response.getData().getOrderId()).size());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("주문 생성 쿼리 수는 메뉴 라인 수와 무관")
+    @Transactional
+    void createOrder_constantStatementCount() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 20);
+
+        long singleLineStatements = countStatements(() -> orderService.createOrder(orderRequest(customer, menus.subList(0, 1))));
+        long twentyLineStatements = countStatements(() -> orderService.createOrder(orderRequest(customer, menus)));
+
+        // 메뉴 IN 조회 + 주문 insert + 메뉴 주문 batch insert + 결제 insert
+        assertEquals(singleLineStatements, twentyLineStatements);
+        assertTrue(twentyLineStatements <= 4, "statements: " + twentyLineStatements);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("존재하지 않는 메뉴가 포함되면 주문 생성 실패")
+    @Transactional
+    void createOrder_unknownMenu() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 1);
+        OrderRequestDto requestDto = orderRequest(customer, menus);
+        UUID unknownMenuId = UUID.randomUUID();
+        requestDto.getMenuInfo().add(Map.of(unknownMenuId, 1L));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                orderService.createOrder(requestDto)
+        );
+        assertTrue(exception.getMessage().contains(unknownMenuId.toString()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("주문 목록 조회 시 메뉴 라인과 메뉴 정보 포함")
+    @Transactional
+    void getOrders_includesLines() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 3);
+        orderService.createOrder(orderRequest(customer, menus));
+        entityManager.flush();
+        entityManager.clear();
+
+        ApiResponseDto<OrderPageResponseDto> response = orderService.getOrders(
+                customer.getId(), null, "createdAt", "desc", 1, 10, managerDetails());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, response.getData().getTotal());
+        OrderHistoryResponseDto history = response.getData().getOrders().get(0);
+        assertEquals(3, history.getLines().size());
+        assertTrue(history.getLines().stream().allMatch(line -> line.getMenuName().startsWith("menu ")));
+        assertTrue(history.getLines().stream().allMatch(line -> line.getAmount() == 2L));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("주문 목록 조회 쿼리 수는 주문/메뉴 라인 수와 무관")
+    @Transactional
+    void getOrders_constantStatementCount() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 5);
+        for (int i = 0; i < 10; i++) {
+            orderService.createOrder(orderRequest(customer, menus));
+        }
+        UserDetailsImpl manager = managerDetails();
+
+        long smallPageStatements = countStatements(() ->
+                orderService.getOrders(customer.getId(), null, "createdAt", "desc", 1, 2, manager));
+        long largePageStatements = countStatements(() ->
+                orderService.getOrders(customer.getId(), null, "createdAt", "desc", 1, 10, manager));
+
+        // 주문 페이지 + count + 메뉴 라인 일괄 조회
+        assertTrue(smallPageStatements <= 3, "statements: " + smallPageStatements);
+        assertTrue(largePageStatements <= 3, "statements: " + largePageStatements);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("메뉴가 삭제되어도 과거 주문의 메뉴 라인은 조회")
+    @Transactional
+    void getOrders_includesDeletedMenuLines() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 3);
+        orderService.createOrder(orderRequest(customer, menus));
+        menus.get(0).delete(customer.getUsername());
+        entityManager.flush();
+        entityManager.clear();
+
+        ApiResponseDto<OrderPageResponseDto> response = orderService.getOrders(
+                customer.getId(), null, "createdAt", "desc", 1, 10, managerDetails());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(3, response.getData().getOrders().get(0).getLines().size());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("주문 단건 조회 시 주문 정보와 메뉴 라인만 응답 (엔티티 직렬화 없음)")
+    @Transactional
+    void getOrder_flatResponse() throws Exception {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 3);
+        UUID orderId = orderService.createOrder(orderRequest(customer, menus)).getData().getOrderId();
+
+        List<ApiResponseDto<OrderHistoryResponseDto>> responses = new ArrayList<>();
+        long statements = countStatements(() -> responses.add(orderService.getOrder(orderId)));
+
+        // 주문 조회 + 메뉴 라인 일괄 조회
+        assertTrue(statements <= 2, "statements: " + statements);
+        OrderHistoryResponseDto order = responses.get(0).getData();
+        assertEquals(orderId, order.getOrderId());
+        assertEquals(customer.getId(), order.getUserId());
+        assertEquals(3, order.getLines().size());
+        assertEquals(
+                menus.stream().map(Menu::getId).sorted().toList(),
+                order.getLines().stream().map(OrderLineResponseDto::getMenuId).sorted().toList());
+
+        // 직렬화해도 연관 엔티티를 따라가지 않음
+        String json = objectMapper.writeValueAsString(responses.get(0));
+        assertFalse(json.contains("menuOrderList"), json);
+        assertFalse(json.contains("password"), json);
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("커서 기반 주문 목록: 주문 상태가 있을 때와 없을 때 모두 페이지 내용과 전체 건수가 일치")
+    @Transactional
+    void getOrdersByCursor_totalMatchesPages() {
+        User customer = userRepository.save(User.createUser("orderCustomer", "order@example.com", "password", Role.CUSTOMER));
+        List<Menu> menus = createMenus(customer, 1);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 13; i++) {
+            orderIds.add(orderService.createOrder(orderRequest(customer, menus)).getData().getOrderId());
+        }
+        entityManager.flush();
+        // 3건만 상태 지정, 나머지 10건은 상태 없음(null)
+        entityManager.createQuery("UPDATE Order o SET o.orderStatus = 'PENDING' WHERE o.id IN :ids")
+                .setParameter("ids", orderIds.subList(0, 3))
+                .executeUpdate();
+        entityManager.clear();
+
+        assertCursorWalk(customer.getId(), null, 10);
+        assertCursorWalk(customer.getId(), "PENDING", 3);
+    }
+
+    private void assertCursorWalk(Long userId, String orderStatus, long expected) {
+        UserDetailsImpl manager = managerDetails();
+        List<UUID> visited = new ArrayList<>();
+        String cursor = "";
+        Long total = null;
+        do {
+            CursorPageResponseDto<OrderHistoryResponseDto> page =
+                    orderService.getOrdersByCursor(userId, orderStatus, cursor, 10, true, manager).getData();
+            page.getContent().forEach(order -> visited.add(order.getOrderId()));
+            total = page.getTotal();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, total);
+        assertEquals(expected, visited.size());
+        assertEquals(visited.size(), new HashSet<>(visited).size());
+    }
+
+    private long countStatements(Runnable runnable) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        runnable.run();
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UserDetailsImpl managerDetails() {
+        return new UserDetailsImpl(User.createUser("orderManager", "manager@example.com", "password", Role.MANAGER));
+    }
+
+    private OrderRequestDto orderRequest(User customer, List<Menu> menus) {
+        long totalPrice = 0;
+        List<Map<UUID, Long>> menuInfo = new ArrayList<>();
+        for (Menu menu : menus) {
+            menuInfo.add(Map.of(menu.getId(), 2L));
+            totalPrice += menu.getPrice() * 2;
+        }
+
+        OrderRequestDto requestDto = new OrderRequestDto();
+        ReflectionTestUtils.setField(requestDto, "menuInfo", menuInfo);
+        ReflectionTestUtils.setField(requestDto, "userId", customer);
+        ReflectionTestUtils.setField(requestDto, "orderType", "DELIVERY");
+        ReflectionTestUtils.setField(requestDto, "address", "서울시 강남구");
+        ReflectionTestUtils.setField(requestDto, "totalPrice", totalPrice);
+        ReflectionTestUtils.setField(requestDto, "cardNumber", "1234-5678-9012-3456");
+        return requestDto;
+    }
+
+    private List<Menu> createMenus(User owner, int count) {
+        Store store = storeRepository.save(
+                Store.of("orderStore", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MenuRequestDto menuRequestDto = new MenuRequestDto();
+            ReflectionTestUtils.setField(menuRequestDto, "name", "menu " + i);
+            ReflectionTestUtils.setField(menuRequestDto, "price", 1000L + i);
+            ReflectionTestUtils.setField(menuRequestDto, "publicStatus", true);
+            menus.add(menuRepository.save(Menu.of(menuRequestDto, store)));
+        }
+        return menus;
+    }
+}
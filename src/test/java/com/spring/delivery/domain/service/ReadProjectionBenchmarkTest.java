@@ -0,0 +1,188 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Review;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.ReviewRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 목록 조회 한 페이지당 힙 할당량/시간 비교 (./gradlew benchmark 로 실행)
+ * - entity     : 엔티티로 조회한 뒤 필요한 필드만 꺼내 씀 (영속성 컨텍스트 등록, 스냅샷 생성)
+ * - projection : 필요한 컬럼만 record 로 조회 (리뷰/메뉴/카테고리/회원 Repository 의 *Row)
+ * 두 방식 모두 readOnly 트랜잭션 안에서 페이지 조회 + count 쿼리까지 측정
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadProjectionBenchmarkTest {
+
+    // -Dbenchmark.projection.rows=... / -Dbenchmark.projection.page-size=... 로 조정 가능
+    private static final int ROW_COUNT = Integer.getInteger("benchmark.projection.rows", 2_000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.projection.page-size", 50);
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 1_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private UUID storeId;
+
+    @BeforeAll
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        storeId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO p_store (id, name, address, tel, open_status) VALUES (?, ?, ?, ?, ?)",
+                storeId, "bench projection store", "address", "010-0000-0000", true);
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> reviews = new ArrayList<>(ROW_COUNT);
+        List<Object[]> menus = new ArrayList<>(ROW_COUNT);
+        List<Object[]> categories = new ArrayList<>(ROW_COUNT);
+        List<Object[]> users = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            reviews.add(new Object[]{UUID.randomUUID(), (double) (i % 5 + 1), "bench projection 리뷰 내용 " + i, storeId, createdAt, createdAt});
+            menus.add(new Object[]{UUID.randomUUID(), "bench projection 메뉴 " + i, 10_000L + i, "메뉴 설명 " + i, true, "menu-" + i + ".png", storeId, createdAt, createdAt, "benchOwner"});
+            categories.add(new Object[]{UUID.randomUUID(), "bench projection 카테고리 " + i, createdAt, createdAt});
+            users.add(new Object[]{"bench_projection_" + i, "bench_projection_" + i + "@example.com", "{noop}password", "CUSTOMER", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO p_review (id, score, contents, store_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", reviews);
+        jdbcTemplate.batchUpdate("INSERT INTO p_menu (id, name, price, description, public_status, menu_image, store_id, created_at, updated_at, created_by) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", menus);
+        jdbcTemplate.batchUpdate("INSERT INTO p_category (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", categories);
+        jdbcTemplate.batchUpdate("INSERT INTO p_users (username, email, password, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM p_review WHERE store_id = ?", storeId);
+        jdbcTemplate.update("DELETE FROM p_menu WHERE store_id = ?", storeId);
+        jdbcTemplate.update("DELETE FROM p_store WHERE id = ?", storeId);
+        jdbcTemplate.update("DELETE FROM p_category WHERE name LIKE 'bench projection %'");
+        jdbcTemplate.update("DELETE FROM p_users WHERE username LIKE 'bench_projection_%'");
+    }
+
+    @Test
+    @DisplayName("목록 조회 페이지당 할당량: 엔티티 조회 vs projection 조회")
+    void compareAllocationPerPage() {
+        Pageable pageable = PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        compare("review",
+                () -> entityPage("SELECT r FROM Review r WHERE r.store.id = :storeId ORDER BY r.createdAt DESC",
+                        "SELECT count(r) FROM Review r WHERE r.store.id = :storeId", Review.class, pageable)
+                        .stream().map(Review::getId).toList(),
+                () -> reviewRepository.findByReview(storeId, pageable)
+                        .stream().map(ReviewRepository.ReviewRow::id).toList());
+
+        compare("menu",
+                () -> entityPage("SELECT m FROM Menu m WHERE m.store.id = :storeId AND m.public_status = true ORDER BY m.createdAt DESC",
+                        "SELECT count(m) FROM Menu m WHERE m.store.id = :storeId AND m.public_status = true", Menu.class, pageable)
+                        .stream().map(Menu::getId).toList(),
+                () -> menuRepository.findActiveMenusByStoreId(storeId, pageable)
+                        .stream().map(MenuRepository.MenuRow::id).toList());
+
+        compare("category",
+                () -> categoryRepository.findAll(pageable).stream().map(Category::getId).toList(),
+                () -> categoryRepository.findAllRows(pageable).stream().map(CategoryRepository.CategoryRow::id).toList());
+
+        compare("user",
+                () -> userRepository.findAll(pageable).stream().map(User::getId).toList(),
+                () -> userRepository.findAllRows(pageable).stream().map(UserRepository.UserRow::id).toList());
+    }
+
+    // 같은 페이지를 반환하는지 확인한 뒤 두 방식의 페이지당 할당량/시간 출력
+    private void compare(String name, Supplier<List<?>> entity, Supplier<List<?>> projection) {
+        List<?> entityIds = readOnly.execute(status -> entity.get());
+        List<?> projectionIds = readOnly.execute(status -> projection.get());
+        assertEquals(entityIds, projectionIds, name);
+
+        Measurement entityResult = measure(entity);
+        Measurement projectionResult = measure(projection);
+
+        System.out.printf("[benchmark] %-8s page=%d entity=%8d bytes %6d us, projection=%8d bytes %6d us%n",
+                name, PAGE_SIZE, entityResult.bytes(), entityResult.micros(), projectionResult.bytes(), projectionResult.micros());
+    }
+
+    // 워밍업 후 페이지당 평균 할당 바이트와 시간 (페이지마다 새 readOnly 트랜잭션)
+    private Measurement measure(Supplier<List<?>> page) {
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> page.get());
+        }
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            readOnly.execute(status -> page.get());
+        }
+        long micros = (System.nanoTime() - start) / ITERATIONS / 1_000;
+        return new Measurement((threadMXBean.getThreadAllocatedBytes(threadId) - startBytes) / ITERATIONS, micros);
+    }
+
+    // 변경 전 방식: 엔티티 목록 + count (Repository 에서 빠진 엔티티 조회 쿼리를 그대로 실행)
+    private <T> List<T> entityPage(String query, String countQuery, Class<T> type, Pageable pageable) {
+        List<T> content = entityManager.createQuery(query, type)
+                .setParameter("storeId", storeId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        entityManager.createQuery(countQuery, Long.class)
+                .setParameter("storeId", storeId)
+                .getSingleResult();
+        return content;
+    }
+
+    private record Measurement(long bytes, long micros) {
+    }
+}
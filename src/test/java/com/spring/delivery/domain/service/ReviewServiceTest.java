@@ -3,6 +3,7 @@ package com.spring.delivery.domain.service;
 import com.spring.delivery.domain.controller.dto.review.*;
 import com.spring.delivery.domain.domain.entity.Review;
 import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.StoreRating;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.ReviewRepository;
@@ -17,8 +18,11 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,6 +44,9 @@ class ReviewServiceTest {
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private StoreRatingService storeRatingService;
+
     private User user;
     private UserDetailsImpl userDetails;
 
@@ -165,4 +172,74 @@ class ReviewServiceTest {
         );
         assertEquals("이미 삭제된 리뷰입니다.", exception.getMessage());
     }
+
+    @Test
+    @Order(6)
+    @DisplayName("리뷰 생성/수정/삭제 시 가게 평점 집계 갱신")
+    @Transactional
+    void storeRating_updatedIncrementally() {
+        ReviewRequestDto first = new ReviewRequestDto();
+        first.setRating(5.0);
+        first.setComment("Great");
+        ReviewRequestDto second = new ReviewRequestDto();
+        second.setRating(2.0);
+        second.setComment("Bad");
+
+        reviewService.createReview(dummyStoreId, first, userDetails);
+        UUID secondId = reviewService.createReview(dummyStoreId, second, userDetails).getId();
+
+        StoreRating rating = storeRatingService.getRating(dummyStoreId);
+        assertEquals(2, rating.getReviewCount());
+        assertEquals(3.5, rating.getAverageRating());
+        assertEquals(1, rating.getHistogram().get(2));
+
+        reviewService.updateReview(secondId, ReviewUpdateRequestDto.builder().rating(4.0).comment("Better").build(), userDetails);
+
+        rating = storeRatingService.getRating(dummyStoreId);
+        assertEquals(4.5, rating.getAverageRating());
+        assertEquals(0, rating.getHistogram().get(2));
+        assertEquals(1, rating.getHistogram().get(4));
+
+        reviewService.deleteReview(secondId, userDetails);
+
+        rating = storeRatingService.getRating(dummyStoreId);
+        assertEquals(1, rating.getReviewCount());
+        assertEquals(5.0, rating.getAverageRating());
+        assertEquals(5.0, reviewService.selectStoreAverageRating(dummyStoreId));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("집계가 없는 가게에 동시에 첫 리뷰가 들어와도 모두 저장되고 집계에 반영")
+    void storeRating_concurrentFirstReviews() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 5; round++) {
+                // storeRepository 로 직접 저장해서 집계 행이 없는 기존 가게와 같은 상태로 만듦
+                UUID storeId = storeRepository.save(
+                        Store.of("ratingRaceStore " + round, "test", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user)).getId();
+
+                CyclicBarrier barrier = new CyclicBarrier(threads);
+                List<Future<ReviewResponseDto>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    double score = i % 5 + 1;
+                    results.add(executor.submit(() -> {
+                        ReviewRequestDto requestDto = new ReviewRequestDto();
+                        requestDto.setRating(score);
+                        requestDto.setComment("race");
+                        barrier.await();
+                        return reviewService.createReview(storeId, requestDto, userDetails);
+                    }));
+                }
+                for (Future<ReviewResponseDto> result : results) {
+                    assertNotNull(result.get(30, TimeUnit.SECONDS).getId());
+                }
+
+                assertEquals(threads, storeRatingService.getRating(storeId).getReviewCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.CursorPageResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreDetailResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreListResponseDto;
+import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.StoreCategory;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.service.cache.StoreDetailCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StoreServiceTest {
+
+    private static final int STORE_COUNT = 12;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StoreCategoryRepository storeCategoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreDetailCache storeDetailCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("가게 목록 조회 시 카테고리를 일괄 조회")
+    @Transactional
+    void getAllStores_categoriesLoaded() {
+        createStores(STORE_COUNT);
+
+        ApiResponseDto<Page<StoreListResponseDto>> response = storeService.getAllStores(0, STORE_COUNT, "createdAt", false);
+
+        assertEquals(200, response.getStatus());
+        assertFalse(response.getData().getContent().isEmpty());
+        response.getData().getContent().stream()
+                .filter(store -> store.getName().startsWith("n+1 store"))
+                .forEach(store -> assertEquals(2, store.getCategories().size()));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("가게 목록 조회 쿼리 수는 페이지 크기와 무관")
+    @Transactional
+    void getAllStores_constantStatementCount() {
+        createStores(STORE_COUNT);
+
+        long smallPageStatements = countStatements(() -> storeService.getAllStores(0, 3, "createdAt", false));
+        long largePageStatements = countStatements(() -> storeService.getAllStores(0, STORE_COUNT, "createdAt", false));
+
+        // 가게 목록 + count + 카테고리 일괄 조회 + 평점 일괄 조회
+        assertEquals(smallPageStatements, largePageStatements);
+        assertTrue(largePageStatements <= 4, "statements: " + largePageStatements);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("커서 기반 가게 목록 조회 시 누락/중복 없이 모든 페이지 순회")
+    @Transactional
+    void getStoresByCursor_walksAllPages() {
+        createStores(STORE_COUNT);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> visited = new ArrayList<>();
+        String cursor = "";
+        CursorPageResponseDto<StoreListResponseDto> page;
+        do {
+            page = storeService.getStoresByCursor(cursor, 10, false).getData();
+            assertNull(page.getTotal());
+            assertTrue(page.getContent().size() <= 10);
+            page.getContent().forEach(store -> visited.add(store.getStoreId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        long total = storeService.getStoresByCursor("", 10, true).getData().getTotal();
+        assertEquals(total, visited.size());
+        assertEquals(visited.size(), new HashSet<>(visited).size());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("커서 기반 가게 목록 조회 시 허용되지 않은 size 는 조회 전에 실패")
+    void getStoresByCursor_invalidSize() {
+        for (int size : new int[]{0, -1, 5, 1_000_000}) {
+            statistics.clear();
+            assertThrows(IllegalArgumentException.class, () -> storeService.getStoresByCursor("", size, false));
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+    }
+
+    private long countStatements(Runnable runnable) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        runnable.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("가게 단건: 조회 중에 수정이 커밋되면 조회 결과(이전 내용)는 이후 요청에 사용되지 않음")
+    void getStoreById_staleLoadNotServed() {
+        UUID storeId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // 이전 내용을 읽은 뒤, 저장하기 전에 수정 커밋(무효화)이 끝난 상황
+        StoreDetailResponseDto stale = storeDetailCache.get(storeId, id -> {
+            loads.incrementAndGet();
+            storeDetailCache.onStoreChanged(new StoreChangedEvent(id));
+            return storeDetail(id, "old");
+        });
+        assertEquals("old", stale.getName());
+
+        StoreDetailResponseDto fresh = storeDetailCache.get(storeId, id -> {
+            loads.incrementAndGet();
+            return storeDetail(id, "new");
+        });
+        assertEquals(2, loads.get());
+        assertEquals("new", fresh.getName());
+
+        // 새 내용은 캐시되어 다시 조회하지 않음
+        assertSame(fresh, storeDetailCache.get(storeId, id -> {
+            throw new AssertionError("cached detail expected");
+        }));
+
+        // 카테고리 변경은 모든 가게 무효화
+        storeDetailCache.onCategoryChanged(new CategoryChangedEvent(UUID.randomUUID()));
+        assertEquals("after category", storeDetailCache.get(storeId, id -> storeDetail(id, "after category")).getName());
+    }
+
+    private StoreDetailResponseDto storeDetail(UUID storeId, String name) {
+        return new StoreDetailResponseDto(storeId, name, "address", "010-0000-0000", true,
+                LocalTime.NOON, LocalTime.MIDNIGHT, List.of(), 0.0, 0L, Map.of());
+    }
+
+    private void createStores(int count) {
+        User owner = userRepository.save(User.createUser("storeOwner", "owner@example.com", "password", Role.OWNER));
+        Category korean = categoryRepository.save(Category.of("n+1 한식"));
+        Category chinese = categoryRepository.save(Category.of("n+1 중식"));
+
+        for (int i = 0; i < count; i++) {
+            Store store = storeRepository.save(
+                    Store.of("n+1 store " + i, "address " + i, "010-0000-000" + i, true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+            storeCategoryRepository.save(StoreCategory.of(store, korean));
+            storeCategoryRepository.save(StoreCategory.of(store, chinese));
+        }
+    }
+}
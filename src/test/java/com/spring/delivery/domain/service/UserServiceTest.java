@@ -0,0 +1,48 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository.UserRow;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("회원 검색 시 검색어의 _, % 는 와일드카드가 아닌 문자 그대로 비교")
+    void searchUsers_escapesLikeWildcards() {
+        User manager = userRepository.save(User.createUser("searchManager", "search-manager@example.com", "password", Role.MANAGER));
+        userRepository.save(User.createUser("like_user", "like-underscore@example.com", "password", Role.CUSTOMER));
+        userRepository.save(User.createUser("likeXuser", "like-x@example.com", "password", Role.CUSTOMER));
+        userRepository.save(User.createUser("like%user", "like-percent@example.com", "password", Role.CUSTOMER));
+        UserDetailsImpl userDetails = new UserDetailsImpl(manager);
+
+        Page<UserRow> underscore = userService.searchUsers(userDetails, 0, 10, "e_u");
+        assertEquals(List.of("like_user"), underscore.getContent().stream().map(UserRow::username).toList());
+        assertEquals(1, underscore.getTotalElements());
+
+        Page<UserRow> percent = userService.searchUsers(userDetails, 0, 10, "e%u");
+        assertEquals(List.of("like%user"), percent.getContent().stream().map(UserRow::username).toList());
+        assertEquals(1, percent.getTotalElements());
+    }
+}
@@ -0,0 +1,136 @@
+package com.spring.delivery.domain.service.search;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LIKE 검색과 n-gram 인덱스 검색 비교 (./gradlew benchmark 로 실행)
+ * H2 인메모리 DB 기준이라 절대 수치보다 두 방식의 차이를 보는 용도
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StoreSearchBenchmarkTest {
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int ITERATIONS = 50;
+    private static final List<String> QUERIES = List.of("치킨", "store 4242", "강남구 테헤란", "010-1234");
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeStoreSearchEngine likeEngine;
+    private NgramStoreSearchEngine ngramEngine;
+
+    @BeforeAll
+    void setUp() {
+        insertStores();
+
+        likeEngine = new LikeStoreSearchEngine(storeRepository);
+        ngramEngine = new NgramStoreSearchEngine(storeRepository);
+
+        long start = System.nanoTime();
+        ngramEngine.rebuild();
+        System.out.printf("[benchmark] n-gram index rebuild (%d stores): %d ms%n",
+                STORE_COUNT, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM p_store WHERE name LIKE 'bench %'");
+    }
+
+    @Test
+    @DisplayName("10만 건 가게 검색: LIKE vs n-gram")
+    void compareSearchEngines() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        for (String query : QUERIES) {
+            Page<Store> like = likeEngine.search(query, pageable);
+            Page<Store> ngram = ngramEngine.search(query, pageable);
+
+            // 같은 페이징 결과를 반환하는지 먼저 확인
+            assertEquals(like.getTotalElements(), ngram.getTotalElements(), query);
+            assertEquals(ids(like), ids(ngram), query);
+
+            long likeMicros = measure(() -> likeEngine.search(query, pageable));
+            long ngramMicros = measure(() -> ngramEngine.search(query, pageable));
+
+            System.out.printf("[benchmark] query=%-12s total=%6d like=%8d us ngram=%8d us%n",
+                    "'" + query + "'", like.getTotalElements(), likeMicros, ngramMicros);
+        }
+    }
+
+    // 워밍업 후 평균 실행 시간 (마이크로초)
+    private long measure(Supplier<Page<Store>> search) {
+        for (int i = 0; i < 5; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private List<UUID> ids(Page<Store> page) {
+        return page.getContent().stream().map(Store::getId).toList();
+    }
+
+    private void insertStores() {
+        String[] districts = {"강남구 테헤란로", "마포구 양화로", "종로구 세종대로", "송파구 올림픽로", "해운대구 우동"};
+        String[] kinds = {"치킨", "피자", "국밥", "분식", "카페", "버거"};
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < STORE_COUNT; i++) {
+            // 생성일은 서로 달라야 두 방식의 정렬 결과가 같아짐
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{
+                    UUID.randomUUID(),
+                    "bench " + kinds[i % kinds.length] + " store " + i,
+                    districts[i % districts.length] + " " + i,
+                    String.format("010-%04d-%04d", i % 10_000, i / 10),
+                    true,
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO p_store (id, name, address, tel, open_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+}
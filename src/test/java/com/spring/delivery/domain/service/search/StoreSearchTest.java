@@ -0,0 +1,60 @@
+package com.spring.delivery.domain.service.search;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "store.search.mode=ngram")
+class StoreSearchTest {
+
+    @Autowired
+    private StoreSearchEngine storeSearchEngine;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("n-gram 검색 인덱스는 값이 없는 필드를 문자열 \"null\" 로 색인하지 않음")
+    void search_skipsNullFields() {
+        assertInstanceOf(NgramStoreSearchEngine.class, storeSearchEngine);
+
+        User owner = userRepository.save(User.createUser("storeSearchOwner", "store-search@example.com", "password", Role.OWNER));
+        Store store = storeRepository.save(
+                Store.of("빈 필드 가게", null, null, true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
+
+        Pageable pageable = PageRequest.of(0, 10);
+        assertEquals(List.of(store.getId()), ids(storeSearchEngine.search("빈 필드", pageable).getContent()));
+        assertFalse(ids(storeSearchEngine.search("null", pageable).getContent()).contains(store.getId()));
+    }
+
+    private List<UUID> ids(List<Store> stores) {
+        return stores.stream().map(Store::getId).toList();
+    }
+}
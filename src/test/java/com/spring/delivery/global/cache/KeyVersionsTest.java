@@ -0,0 +1,53 @@
+package com.spring.delivery.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyVersionsTest {
+
+    @Test
+    @DisplayName("bump 하면 해당 키의 버전만 바뀜")
+    void bump_changesOnlyThatKey() {
+        KeyVersions<String> versions = new KeyVersions<>(10);
+        long a = versions.get("a");
+        long b = versions.get("b");
+
+        versions.bump("a");
+
+        assertNotEquals(a, versions.get("a"));
+        assertEquals(b, versions.get("b"));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 버전을 지우지만, 지워진 키의 버전은 bump 이전 값으로 돌아가지 않음")
+    void bump_boundedWithoutReusingVersions() {
+        KeyVersions<String> versions = new KeyVersions<>(2);
+        long beforeBump = versions.get("a");
+        versions.bump("a");
+        long a = versions.get("a");
+
+        versions.bump("b");
+        versions.bump("c");
+
+        assertEquals(2, versions.size());
+        assertTrue(versions.get("a") >= a);
+        assertNotEquals(beforeBump, versions.get("a"));
+    }
+
+    @Test
+    @DisplayName("bumpAll 하면 모든 키의 버전이 바뀜")
+    void bumpAll_changesEveryKey() {
+        KeyVersions<String> versions = new KeyVersions<>(10);
+        versions.bump("a");
+        long a = versions.get("a");
+        long b = versions.get("b");
+
+        versions.bumpAll();
+
+        assertEquals(0, versions.size());
+        assertNotEquals(a, versions.get("a"));
+        assertNotEquals(b, versions.get("b"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.spring.delivery.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalCacheTest {
+
+    @Test
+    @DisplayName("캐시 히트 시 loader를 호출하지 않음")
+    void get_hit() {
+        LocalCache<String, String> cache = new LocalCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", key -> "value" + loads.incrementAndGet());
+        String value = cache.get("key", key -> "value" + loads.incrementAndGet());
+
+        assertEquals("value1", value);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거")
+    void put_evictsLeastRecentlyUsed() {
+        LocalCache<String, String> cache = new LocalCache<>("test", 2, Duration.ofMinutes(1));
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않음")
+    void get_expired() throws InterruptedException {
+        LocalCache<String, String> cache = new LocalCache<>("test", 10, Duration.ofMillis(10));
+
+        cache.put("key", "value");
+        Thread.sleep(30);
+
+        assertNull(cache.get("key"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("명시적 무효화")
+    void evict() {
+        LocalCache<String, String> cache = new LocalCache<>("test", 10, Duration.ofMinutes(1));
+
+        cache.put("key", "value");
+        cache.evict("key");
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.getEvictionCount());
+    }
+}
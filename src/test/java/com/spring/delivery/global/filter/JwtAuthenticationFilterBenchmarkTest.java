@@ -0,0 +1,104 @@
+package com.spring.delivery.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.user.SignInRequestDto;
+import com.spring.delivery.domain.controller.dto.user.SignInResponseDto;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 로그인 요청당 힙 할당량 비교 (./gradlew benchmark 로 실행)
+ * - before : 요청 읽기/응답 쓰기마다 new ObjectMapper()
+ * - after  : 공용 ObjectMapper 로 미리 만든 ObjectReader/ObjectWriter 사용 (JwtAuthenticationFilter)
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+    private static final byte[] SIGN_IN_BODY = "{\"username\":\"benchUser\",\"password\":\"password\"}".getBytes();
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("로그인 요청당 할당량: 요청마다 ObjectMapper 생성 vs 공용 reader/writer")
+    void compareAllocationPerLogin() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("jwt-filter-benchmark-secret-key-0123456789".getBytes()));
+        jwtUtil.init();
+
+        User user = User.createUser("benchUser", "bench@example.com", "password", Role.CUSTOMER);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, Jackson2ObjectMapperBuilder.json().build());
+        filter.setAuthenticationManager(authentication ->
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        LoginPath before = () -> {
+            MockHttpServletRequest request = signInRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            SignInRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SignInRequestDto.class);
+            assertEquals("benchUser", requestDto.getUsername());
+            String token = jwtUtil.createToken(userDetails.getUsername(), user.getRole());
+            new ObjectMapper().writeValue(response.getWriter(),
+                    ApiResponseDto.success(SignInResponseDto.builder().token(token).build()));
+        };
+        LoginPath after = () -> {
+            MockHttpServletRequest request = signInRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            Authentication authentication = filter.attemptAuthentication(request, response);
+            filter.successfulAuthentication(request, response, new MockFilterChain(), authentication);
+        };
+
+        long beforeBytes = measure(before);
+        long afterBytes = measure(after);
+
+        System.out.printf("[benchmark] login allocation per request: new ObjectMapper=%d bytes, shared reader/writer=%d bytes%n",
+                beforeBytes, afterBytes);
+    }
+
+    // 워밍업 후 요청당 평균 할당 바이트
+    private long measure(LoginPath loginPath) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            loginPath.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            loginPath.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private MockHttpServletRequest signInRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/signIn");
+        request.setContentType("application/json");
+        request.setContent(SIGN_IN_BODY);
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface LoginPath {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,103 @@
+package com.spring.delivery.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.security.UserDetailsServiceImpl;
+import com.spring.delivery.global.security.UserPrincipalCache;
+import com.spring.delivery.global.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JWT 인가 필터의 요청당 처리 시간 비교 (인증 사용자 캐시 on/off, ./gradlew benchmark 로 실행)
+ * 실제 부하 테스트 대신 필터를 직접 반복 호출해 DB 조회 유무에 따른 차이만 측정
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JwtAuthorizationFilterBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(User.createUser("benchUser", "bench@example.com", "password", Role.CUSTOMER));
+        token = jwtUtil.createToken(user.getUsername(), user.getRole());
+    }
+
+    @AfterAll
+    void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("인증 사용자 캐시 유무에 따른 필터 처리 시간")
+    void comparePrincipalCache() throws Exception {
+        JwtAuthorizationFilter withoutCache = new JwtAuthorizationFilter(jwtUtil, userDetailsService,
+                new UserPrincipalCache(new SimpleMeterRegistry(), false, 10_000, Duration.ofSeconds(30)), objectMapper);
+        JwtAuthorizationFilter withCache = new JwtAuthorizationFilter(jwtUtil, userDetailsService,
+                new UserPrincipalCache(new SimpleMeterRegistry(), true, 10_000, Duration.ofSeconds(30)), objectMapper);
+
+        long withoutCacheNanos = measure(withoutCache);
+        long withCacheNanos = measure(withCache);
+
+        System.out.printf("[benchmark] JwtAuthorizationFilter per request: db lookup=%d us, principal cache=%d us%n",
+                withoutCacheNanos / 1_000, withCacheNanos / 1_000);
+    }
+
+    // 워밍업 후 요청당 평균 처리 시간 (나노초)
+    private long measure(JwtAuthorizationFilter filter) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            runFilter(filter);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runFilter(filter);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void runFilter(JwtAuthorizationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user");
+        // 로그인 응답의 token 값("Bearer ..." 포함)에 다시 Bearer 를 붙여 보내는 현재 클라이언트 방식
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,41 @@
+package com.spring.delivery.global.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원")
+    void encodeAndDecode() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 2, 1, 12, 30, 0, 123_456_000), UUID.randomUUID());
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지")
+    void decode_blank() {
+        assertNull(Cursor.decode(""));
+        assertNull(Cursor.decode(null));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void decode_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 10, 30, 50 만 허용")
+    void checkSize() {
+        assertEquals(30, Cursor.checkSize(30));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.checkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.checkSize(1_000_000));
+    }
+}
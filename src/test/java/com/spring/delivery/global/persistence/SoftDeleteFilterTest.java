@@ -0,0 +1,74 @@
+package com.spring.delivery.global.persistence;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SoftDeleteFilterTest {
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("삭제된 행은 쿼리 조회에서 제외되고, 식별자 조회와 includeDeleted 에서는 조회")
+    @Transactional
+    void deletedRowsExcludedFromQueries() {
+        long activeBefore = storeRepository.count();
+        long allBefore = softDeleteFilter.<Long>includeDeleted(storeRepository::count);
+
+        User owner = userRepository.save(User.createUser("filterOwner", "filter@example.com", "password", Role.OWNER));
+        Store active = storeRepository.save(
+                Store.of("active store", "address", "010-0000-0001", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        Store deleted = storeRepository.save(
+                Store.of("deleted store", "address", "010-0000-0002", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        deleted.delete(owner.getUsername());
+        UUID deletedId = deleted.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(activeBefore + 1, storeRepository.count());
+        assertFalse(storeRepository.existsById(deletedId));
+        List<UUID> storeIds = storeRepository.findAll().stream().map(Store::getId).toList();
+        assertTrue(storeIds.contains(active.getId()));
+        assertFalse(storeIds.contains(deletedId));
+
+        // 식별자 조회에는 적용되지 않음 (연관관계로 참조 중인 삭제된 행을 읽을 수 있어야 함)
+        assertTrue(storeRepository.findById(deletedId).isPresent());
+
+        assertEquals(allBefore + 2, softDeleteFilter.<Long>includeDeleted(storeRepository::count));
+        // includeDeleted 가 끝나면 필터가 다시 켜짐
+        assertEquals(activeBefore + 1, storeRepository.count());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 includeDeleted 사용 불가")
+    void includeDeletedRequiresTransaction() {
+        assertThrows(RuntimeException.class, () -> softDeleteFilter.includeDeleted(storeRepository::count));
+    }
+}
@@ -0,0 +1,163 @@
+package com.spring.delivery.global.persistence;
+
+import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * p_order / p_menu_order insert 처리량: 랜덤 UUID(v4) vs 시간 순 UUID(v7) (./gradlew benchmark 로 실행)
+ * 기본은 H2 인메모리 DB, spring.datasource.* 를 PostgreSQL 로 바꿔 실행하면 PK 인덱스 크기도 함께 출력
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UuidInsertBenchmarkTest {
+
+    // -Dbenchmark.uuid.orders=... 로 조정 가능 (기본 20만 주문, 주문당 메뉴 3개)
+    private static final int ORDER_COUNT = Integer.getInteger("benchmark.uuid.orders", 200_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.uuid.rounds", 2);
+    private static final int LINES_PER_ORDER = 3;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final String BENCH_USER = "uuid-bench";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    private User user;
+    private Store store;
+    private final List<UUID> menuIds = new ArrayList<>();
+    private boolean postgres;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        user = userRepository.save(User.createUser(BENCH_USER, "uuid-bench@example.com", "password", Role.OWNER));
+        store = storeRepository.save(Store.of("uuid bench", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, user));
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            MenuRequestDto menuRequestDto = new MenuRequestDto();
+            ReflectionTestUtils.setField(menuRequestDto, "name", "uuid bench " + i);
+            ReflectionTestUtils.setField(menuRequestDto, "price", 1000L);
+            ReflectionTestUtils.setField(menuRequestDto, "publicStatus", true);
+            menuIds.add(menuRepository.save(Menu.of(menuRequestDto, store)).getId());
+        }
+
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            postgres = connection.getMetaData().getDatabaseProductName().equals("PostgreSQL");
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        deleteBenchRows();
+        jdbcTemplate.update("DELETE FROM p_menu WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_store WHERE id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    @DisplayName("주문/메뉴 주문 insert 처리량: UUID v4 vs v7")
+    void compareInsertThroughput() {
+        for (int round = 1; round <= ROUNDS; round++) {
+            run("v4", UUID::randomUUID, round);
+            run("v7", UuidV7Generator::generate, round);
+        }
+    }
+
+    private void run(String name, Supplier<UUID> idGenerator, int round) {
+        deleteBenchRows();
+
+        long start = System.nanoTime();
+        long lastSegmentStart = start;
+        int segment = ORDER_COUNT / 10;
+        for (int from = 0; from < ORDER_COUNT; from += INSERT_BATCH_SIZE) {
+            if (from == ORDER_COUNT - segment) {
+                lastSegmentStart = System.nanoTime();
+            }
+            insertBatch(idGenerator, Math.min(INSERT_BATCH_SIZE, ORDER_COUNT - from));
+        }
+        long end = System.nanoTime();
+
+        long rows = (long) ORDER_COUNT * (1 + LINES_PER_ORDER);
+        System.out.printf("[benchmark] round %d %s: %d orders + %d lines in %d ms (%.0f rows/s, last 10%%: %.0f rows/s)%s%n",
+                round, name, ORDER_COUNT, ORDER_COUNT * LINES_PER_ORDER, (end - start) / 1_000_000,
+                rows / ((end - start) / 1e9),
+                rows / 10.0 / ((end - lastSegmentStart) / 1e9),
+                postgres ? ", " + primaryKeySizes() : "");
+
+        assertEquals(ORDER_COUNT, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM p_order WHERE created_by = ?", Integer.class, BENCH_USER));
+    }
+
+    private void insertBatch(Supplier<UUID> idGenerator, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> lines = new ArrayList<>(count * LINES_PER_ORDER);
+        for (int i = 0; i < count; i++) {
+            UUID orderId = idGenerator.get();
+            orders.add(new Object[]{orderId, user.getId(), "PENDING", "DELIVERY", 3000L, "address", now, BENCH_USER});
+            for (UUID menuId : menuIds) {
+                lines.add(new Object[]{idGenerator.get(), orderId, menuId, 1L, now, BENCH_USER});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO p_order (id, user_id, order_status, order_type, total_price, address, created_at, created_by) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO p_menu_order (id, order_id, menu_id, amount, created_at, created_by) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", lines);
+    }
+
+    // PK 인덱스 크기 (p_order 는 파티션별 PK 합계)
+    private String primaryKeySizes() {
+        Long orderPk = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(pg_relation_size(i.indexrelid)), 0) FROM pg_index i " +
+                "WHERE i.indisprimary AND i.indrelid IN " +
+                "(SELECT inhrelid FROM pg_inherits WHERE inhparent = 'p_order'::regclass UNION SELECT 'p_order'::regclass)", Long.class);
+        Long menuOrderPk = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(pg_relation_size(i.indexrelid)), 0) FROM pg_index i " +
+                "WHERE i.indisprimary AND i.indrelid = 'p_menu_order'::regclass", Long.class);
+        return String.format("p_order pk %d KB, p_menu_order pk %d KB", orderPk / 1024, menuOrderPk / 1024);
+    }
+
+    private void deleteBenchRows() {
+        jdbcTemplate.update("DELETE FROM p_menu_order WHERE created_by = ?", BENCH_USER);
+        jdbcTemplate.update("DELETE FROM p_order WHERE created_by = ?", BENCH_USER);
+        // 이전 실행에서 쪼개진 인덱스 페이지가 다음 실행에 영향을 주지 않도록 재구성
+        if (postgres) {
+            jdbcTemplate.execute("VACUUM p_menu_order");
+            jdbcTemplate.execute("VACUUM p_order");
+            jdbcTemplate.execute("REINDEX TABLE p_menu_order");
+            jdbcTemplate.execute("REINDEX TABLE p_order");
+        }
+    }
+}
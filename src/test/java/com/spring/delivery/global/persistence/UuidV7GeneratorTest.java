@@ -0,0 +1,55 @@
+package com.spring.delivery.global.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("version 7, variant 2 이고 상위 48비트는 현재 시각(ms)")
+    void generate_versionAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1, "timestamp: " + timestamp);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 발급 순서대로 증가 (DB 의 바이트 순 비교 기준)")
+    void generate_monotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7Generator.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            // 상위 64비트(시각 + 카운터)만으로 순서가 정해짐
+            assertTrue(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(), uuids.get(i).getMostSignificantBits()) < 0,
+                    uuids.get(i - 1) + " >= " + uuids.get(i));
+        }
+        assertEquals(uuids.size(), new HashSet<>(uuids).size());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+    void generate_concurrentUnique() {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> uuids.add(UuidV7Generator.generate()));
+
+        assertEquals(200_000, uuids.size());
+    }
+}
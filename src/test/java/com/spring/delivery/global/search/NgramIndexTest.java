@@ -0,0 +1,96 @@
+package com.spring.delivery.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NgramIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("대소문자 구분 없이 부분 문자열 검색")
+    void search_substringIgnoreCase() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put("a", null, "Burger King" + NgramIndex.FIELD_SEPARATOR + "서울시 강남구", BASE, BASE);
+        index.put("b", null, "Pizza House" + NgramIndex.FIELD_SEPARATOR + "서울시 마포구", BASE.plusHours(1), BASE);
+
+        assertEquals(List.of("a"), index.search("GER KI", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).keys());
+        assertEquals(List.of("b"), index.search("마포", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).keys());
+        assertEquals(2, index.search("서울시", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("필드 경계를 넘는 매칭은 제외")
+    void search_doesNotMatchAcrossFields() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put("a", null, "abc" + NgramIndex.FIELD_SEPARATOR + "def", BASE, BASE);
+
+        assertEquals(0, index.search("cde", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("정렬 기준과 페이지에 맞춰 결과 반환")
+    void search_sortAndPage() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        for (int i = 0; i < 5; i++) {
+            index.put(i, null, "store " + i, BASE.plusMinutes(i), BASE.minusMinutes(i));
+        }
+
+        NgramIndex.SearchResult<Integer> createdDesc = index.search("store", null, NgramIndex.SortField.CREATED_AT, false, 0, 2);
+        NgramIndex.SearchResult<Integer> updatedDesc = index.search("store", null, NgramIndex.SortField.UPDATED_AT, false, 2, 2);
+
+        assertEquals(List.of(4, 3), createdDesc.keys());
+        assertEquals(5, createdDesc.total());
+        assertEquals(List.of(2, 3), updatedDesc.keys());
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 문서는 이전 내용으로 검색되지 않음")
+    void putAndRemove_replaceDocument() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put("a", null, "old name", BASE, BASE);
+        index.put("a", null, "new name", BASE, BASE);
+
+        assertEquals(0, index.search("old", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).total());
+        assertEquals(List.of("a"), index.search("new", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).keys());
+
+        index.remove("a");
+
+        assertEquals(0, index.search("name", null, NgramIndex.SortField.CREATED_AT, true, 0, 10).total());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("groupId 가 지정되면 해당 그룹의 문서만 검색")
+    void search_filtersByGroup() {
+        NgramIndex<String> index = new NgramIndex<>();
+        UUID group = UUID.randomUUID();
+        index.put("a", group, "추천 메뉴", BASE, BASE);
+        index.put("b", UUID.randomUUID(), "추천 메뉴", BASE, BASE);
+
+        assertEquals(List.of("a"), index.search("추천 메뉴", group, NgramIndex.SortField.CREATED_AT, true, 0, 10).keys());
+    }
+
+    @Test
+    @DisplayName("죽은 문서가 많아지면 재구성 후에도 검색 결과 유지")
+    void compact_keepsLiveDocuments() {
+        NgramIndex<Integer> index = new NgramIndex<>();
+        for (int i = 0; i < 3000; i++) {
+            index.put(i, null, "document " + i, BASE.plusSeconds(i), BASE);
+        }
+        for (int i = 0; i < 2990; i++) {
+            index.remove(i);
+        }
+
+        NgramIndex.SearchResult<Integer> result = index.search("document", null, NgramIndex.SortField.CREATED_AT, true, 0, 100);
+
+        assertEquals(10, result.total());
+        assertEquals(2990, result.keys().get(0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.spring.delivery.global.security;
+
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return new UserDetailsImpl(User.createUser(username, username + "@example.com", "password", Role.CUSTOMER));
+    };
+
+    @Test
+    @DisplayName("같은 사용자는 TTL 동안 한 번만 조회")
+    void get_cachesPrincipal() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1));
+
+        UserDetails first = cache.get("user", loader);
+        UserDetails second = cache.get("user", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("유저 변경 이벤트로 캐시 제거")
+    void onUserChanged_evicts() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1));
+        cache.get("user", loader);
+
+        cache.onUserChanged(new UserChangedEvent("user"));
+        cache.get("user", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("조회 중에 유저 삭제/수정이 커밋되면 조회한 이전 정보는 이후 요청에 사용되지 않음")
+    void onUserChanged_duringLoad_staleNotServed() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1));
+
+        // 이전 정보를 읽은 뒤, 저장하기 전에 삭제 커밋(무효화)이 끝난 상황
+        UserDetails stale = cache.get("user", username -> {
+            UserDetails loaded = loader.apply(username);
+            cache.onUserChanged(new UserChangedEvent(username));
+            return loaded;
+        });
+
+        UserDetails fresh = cache.get("user", loader);
+
+        assertNotSame(stale, fresh);
+        assertEquals(2, loads.get());
+        assertSame(fresh, cache.get("user", loader));
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 조회")
+    void get_disabled() {
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), false, 100, Duration.ofMinutes(1));
+
+        cache.get("user", loader);
+        cache.get("user", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,57 @@
+package com.spring.delivery.global.util;
+
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인가 필터의 토큰 처리 경로 비교 (./gradlew benchmark 로 실행)
+ * - before : validateToken + getUserInfoFromToken (요청마다 파서 2개 생성, 서명 검증 2회)
+ * - after  : 미리 만든 파서로 parseClaims 1회
+ */
+@Tag("benchmark")
+class JwtUtilBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("토큰 파싱: 요청당 파서 2회 생성 vs 공유 파서 1회 파싱")
+    void compareTokenPath() {
+        JwtUtil jwtUtil = JwtUtilTest.jwtUtil("jwt-util-benchmark-secret-key-0123456789");
+        Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "key");
+        String token = jwtUtil.substringToken(jwtUtil.createToken("benchUser", Role.CUSTOMER));
+
+        Supplier<Claims> before = () -> {
+            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        };
+        Supplier<Claims> after = () -> jwtUtil.parseClaims(token).orElseThrow();
+
+        long beforeNanos = measure(before);
+        long afterNanos = measure(after);
+
+        System.out.printf("[benchmark] JWT token path per request: before=%d ns, after=%d ns%n", beforeNanos, afterNanos);
+    }
+
+    // 워밍업 후 평균 실행 시간 (나노초)
+    private long measure(Supplier<Claims> tokenPath) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals("benchUser", tokenPath.get().getSubject());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            tokenPath.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
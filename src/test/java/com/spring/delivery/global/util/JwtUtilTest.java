@@ -0,0 +1,59 @@
+package com.spring.delivery.global.util;
+
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil("jwt-util-test-secret-key-0123456789abcdef");
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 claims 반환")
+    void parseClaims_valid() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken("user", Role.CUSTOMER));
+
+        Optional<Claims> claims = jwtUtil.parseClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("user", claims.get().getSubject());
+        assertEquals(Role.CUSTOMER.name(), claims.get().get(JwtUtil.AUTHORIZATION_KEY));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 empty")
+    void parseClaims_invalidSignature() {
+        JwtUtil otherUtil = jwtUtil("another-secret-key-for-signature-test-000000");
+        String token = otherUtil.substringToken(otherUtil.createToken("user", Role.CUSTOMER));
+
+        assertTrue(jwtUtil.parseClaims(token).isEmpty());
+        assertFalse(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 empty")
+    void parseClaims_malformed() {
+        assertTrue(jwtUtil.parseClaims("not.a.token").isEmpty());
+        assertTrue(jwtUtil.parseClaims("").isEmpty());
+    }
+
+    static JwtUtil jwtUtil(String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret.getBytes()));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,208 @@
+package com.spring.delivery.infra.archive;
+
+import com.spring.delivery.domain.controller.dto.order.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArchiveJobTest {
+
+    private static final List<String> TABLES = List.of("p_order", "p_menu_order", "p_payment", "p_review", "p_gemini");
+    private static final Duration RETENTION = Duration.ofDays(90);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User customer;
+    private Store store;
+    private List<Menu> menus;
+
+    // 테스트 DB(H2)는 Flyway 를 쓰지 않으므로 보관 테이블을 원본 테이블 구조로 직접 생성
+    @BeforeAll
+    void setUp() {
+        for (String table : TABLES) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_archive AS SELECT * FROM " + table + " WHERE 1 = 0");
+            jdbcTemplate.execute("ALTER TABLE " + table + "_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP(6)");
+        }
+
+        customer = userRepository.save(User.createUser("archiveCustomer", "archive@example.com", "password", Role.CUSTOMER));
+        store = storeRepository.save(
+                Store.of("archive store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, customer));
+        menus = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            MenuRequestDto menuRequestDto = new MenuRequestDto();
+            ReflectionTestUtils.setField(menuRequestDto, "name", "archive menu " + i);
+            ReflectionTestUtils.setField(menuRequestDto, "price", 1000L);
+            ReflectionTestUtils.setField(menuRequestDto, "publicStatus", true);
+            menus.add(menuRepository.save(Menu.of(menuRequestDto, store)));
+        }
+    }
+
+    // 보관 작업은 트랜잭션을 직접 커밋하므로 남은 행을 직접 정리 (다른 테스트의 사용자 삭제와 충돌 방지)
+    @AfterAll
+    void tearDown() {
+        String orderIds = "SELECT id FROM p_order WHERE user_id = " + customer.getId();
+        jdbcTemplate.update("DELETE FROM p_review WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_gemini WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_menu_order WHERE order_id IN (" + orderIds + ")");
+        jdbcTemplate.update("DELETE FROM p_payment WHERE order_id IN (" + orderIds + ")");
+        jdbcTemplate.update("DELETE FROM p_order WHERE user_id = ?", customer.getId());
+        jdbcTemplate.update("DELETE FROM p_menu WHERE store_id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_store WHERE id = ?", store.getId());
+        jdbcTemplate.update("DELETE FROM p_users WHERE id = ?", customer.getId());
+        for (String table : TABLES) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table + "_archive");
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 행과 완료 주문만 하위 행과 함께 보관 테이블로 이동")
+    void archive_movesExpiredRows() {
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+
+        UUID deletedOrder = createOrder();
+        UUID completedOrder = createOrder();
+        UUID reviewedOrder = createOrder();
+        UUID recentlyDeletedOrder = createOrder();
+        UUID liveOrder = createOrder();
+        jdbcTemplate.update("UPDATE p_order SET deleted_at = ? WHERE id = ?", Timestamp.valueOf(old), deletedOrder);
+        jdbcTemplate.update("UPDATE p_order SET order_status = 'COMPLETED', updated_at = ? WHERE id IN (?, ?)",
+                Timestamp.valueOf(old), completedOrder, reviewedOrder);
+        jdbcTemplate.update("UPDATE p_order SET deleted_at = ? WHERE id = ?", Timestamp.valueOf(recent), recentlyDeletedOrder);
+
+        UUID deletedReview = createReview(createOrder(), old);
+        UUID liveReview = createReview(reviewedOrder, null);
+        UUID deletedGemini = createGemini(old);
+        UUID liveGemini = createGemini(null);
+
+        // batch-size 1 로 여러 번 나눠 옮겨도 모두 이동
+        ArchiveJob archiveJob = new ArchiveJob(namedParameterJdbcTemplate, transactionTemplate, meterRegistry,
+                RETENTION, List.of("COMPLETED"), 1, 100);
+        Map<String, Long> moved = archiveJob.archive(LocalDateTime.now().minus(RETENTION));
+
+        assertTrue(moved.get("p_order") >= 2, moved.toString());
+        for (UUID orderId : List.of(deletedOrder, completedOrder)) {
+            assertArchived("p_order", "id", orderId, 1);
+            assertArchived("p_menu_order", "order_id", orderId, menus.size());
+            assertArchived("p_payment", "order_id", orderId, 1);
+        }
+        assertArchived("p_review", "id", deletedReview, 1);
+        assertArchived("p_gemini", "id", deletedGemini, 1);
+
+        // 리뷰가 남은 주문, 최근 삭제/진행 중 주문, 삭제되지 않은 리뷰/추천 내역은 그대로
+        for (UUID orderId : List.of(reviewedOrder, recentlyDeletedOrder, liveOrder)) {
+            assertLive("p_order", "id", orderId, 1);
+            assertLive("p_menu_order", "order_id", orderId, menus.size());
+        }
+        assertLive("p_review", "id", liveReview, 1);
+        assertLive("p_gemini", "id", liveGemini, 1);
+    }
+
+    @Test
+    @DisplayName("보관할 행이 없으면 아무것도 옮기지 않음")
+    void archive_nothingToMove() {
+        ArchiveJob archiveJob = new ArchiveJob(namedParameterJdbcTemplate, transactionTemplate, meterRegistry,
+                RETENTION, List.of("COMPLETED"), 10, 100);
+
+        Map<String, Long> moved = archiveJob.archive(LocalDateTime.now().minusYears(10));
+
+        assertTrue(moved.values().stream().allMatch(count -> count == 0), moved.toString());
+    }
+
+    private void assertArchived(String table, String column, UUID id, int expected) {
+        assertEquals(0, count(table, column, id), table);
+        assertEquals(expected, count(table + "_archive", column, id), table + "_archive");
+    }
+
+    private void assertLive(String table, String column, UUID id, int expected) {
+        assertEquals(expected, count(table, column, id), table);
+        assertEquals(0, count(table + "_archive", column, id), table + "_archive");
+    }
+
+    private int count(String table, String column, UUID id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, id);
+    }
+
+    private UUID createOrder() {
+        List<Map<UUID, Long>> menuInfo = new ArrayList<>();
+        menus.forEach(menu -> menuInfo.add(Map.of(menu.getId(), 1L)));
+
+        OrderRequestDto requestDto = new OrderRequestDto();
+        ReflectionTestUtils.setField(requestDto, "menuInfo", menuInfo);
+        ReflectionTestUtils.setField(requestDto, "userId", customer);
+        ReflectionTestUtils.setField(requestDto, "orderType", "DELIVERY");
+        ReflectionTestUtils.setField(requestDto, "address", "서울시 강남구");
+        ReflectionTestUtils.setField(requestDto, "totalPrice", 1000L * menus.size());
+        ReflectionTestUtils.setField(requestDto, "cardNumber", "1234-5678-9012-3456");
+        return orderService.createOrder(requestDto).getData().getOrderId();
+    }
+
+    private UUID createReview(UUID orderId, LocalDateTime deletedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO p_review (id, order_id, store_id, user_id, score, contents, created_at, deleted_at) " +
+                        "VALUES (?, ?, ?, ?, 5, 'good', ?, ?)",
+                id, orderId, store.getId(), customer.getId(), Timestamp.valueOf(LocalDateTime.now().minusDays(200)),
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        return id;
+    }
+
+    private UUID createGemini(LocalDateTime deletedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO p_gemini (id, store_id, request_text, response_text, created_at, deleted_at) " +
+                        "VALUES (?, ?, 'request', 'response', ?, ?)",
+                id, store.getId(), Timestamp.valueOf(LocalDateTime.now().minusDays(200)),
+                deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        return id;
+    }
+}
@@ -0,0 +1,152 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GeminiAuditWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private MeterRegistry meterRegistry;
+    private Store store;
+
+    @BeforeAll
+    void setUp() {
+        store = storeRepository.save(Store.of("audit store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, null));
+    }
+
+    @BeforeEach
+    void resetRows() {
+        meterRegistry = new SimpleMeterRegistry();
+        jdbcTemplate.update("DELETE FROM p_gemini WHERE store_id = ?", store.getId());
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 항목을 batch-size 단위로 묶어 저장")
+    void writesQueuedRowsInBatches() throws InterruptedException {
+        GeminiAuditWriter writer = writer(1000, 100);
+        for (int i = 0; i < 250; i++) {
+            writer.submit(row("질문 " + i));
+        }
+
+        writer.start();
+
+        assertTrue(writer.flush(Duration.ofSeconds(10)));
+        assertEquals(250, countRows());
+        assertEquals(3, meterRegistry.timer("gemini.audit.write").count());
+        assertEquals(250, meterRegistry.counter("gemini.audit.written").count());
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 저장하고, 종료 시 큐에 남은 항목 저장")
+    void callerRunsWhenFullAndFlushesOnShutdown() throws InterruptedException {
+        // 저장 스레드를 시작하지 않아 큐가 비워지지 않는 상태
+        GeminiAuditWriter writer = writer(2, 100);
+
+        writer.submit(row("질문 1"));
+        writer.submit(row("질문 2"));
+        writer.submit(row("질문 3"));
+
+        assertEquals(1, countRows());
+        assertEquals(1, meterRegistry.counter("gemini.audit.caller-runs").count());
+        assertEquals(2, meterRegistry.get("gemini.audit.queue.size").gauge().value());
+
+        writer.shutdown();
+
+        assertEquals(3, countRows());
+        assertTrue(writer.flush(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("batch 저장이 실패하면 한 건씩 다시 저장해 저장할 수 없는 항목만 실패 처리")
+    void retriesFailedBatchOneByOne() throws InterruptedException {
+        GeminiAuditWriter writer = writer(100, 100);
+        writer.submit(row("질문 1"));
+        // 존재하지 않는 가게 (FK 위반)
+        writer.submit(new GeminiAuditWriter.Row(UUID.randomUUID(), "질문 2", "추천 메뉴입니다.", UUID.randomUUID(), LocalDateTime.now(), "auditor"));
+        writer.submit(row("질문 3"));
+
+        writer.start();
+
+        assertTrue(writer.flush(Duration.ofSeconds(10)));
+        assertEquals(2, countRows());
+        assertEquals(2, meterRegistry.counter("gemini.audit.written").count());
+        assertEquals(1, meterRegistry.counter("gemini.audit.failed").count());
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 항목도 유실 없이 저장")
+    void submitsDuringShutdownAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        for (int round = 0; round < 5; round++) {
+            jdbcTemplate.update("DELETE FROM p_gemini WHERE store_id = ?", store.getId());
+            GeminiAuditWriter writer = writer(16, 10);
+            writer.start();
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch started = new CountDownLatch(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perThread; i++) {
+                        writer.submit(row("질문 " + i));
+                    }
+                }));
+            }
+            started.await();
+            writer.shutdown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            assertTrue(writer.flush(Duration.ofSeconds(10)));
+            assertEquals(threads * perThread, countRows());
+        }
+    }
+
+    private GeminiAuditWriter writer(int queueCapacity, int batchSize) {
+        return new GeminiAuditWriter(jdbcTemplate, eventPublisher, meterRegistry,
+                queueCapacity, batchSize, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    private GeminiAuditWriter.Row row(String requestText) {
+        return new GeminiAuditWriter.Row(UUID.randomUUID(), requestText, "추천 메뉴입니다.", store.getId(), LocalDateTime.now(), "auditor");
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM p_gemini WHERE store_id = ?", Long.class, store.getId());
+    }
+}
@@ -0,0 +1,183 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.util.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GeminiBatchTest {
+
+    private static final int BATCH_CONCURRENCY = 2;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static final HttpServer stubServer = startStubServer();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.url", () -> "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/gemini?key=");
+        registry.add("gemini.api.key", () -> "test-key");
+        registry.add("gemini.batch.concurrency", () -> BATCH_CONCURRENCY);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private GeminiRepository geminiRepository;
+
+    @Autowired
+    private GeminiAuditWriter auditWriter;
+
+    private Store store;
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        User owner = userRepository.save(User.createUser("batchOwner", "batch@example.com", "password", Role.OWNER));
+        store = storeRepository.save(Store.of("batch store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        token = jwtUtil.createToken(owner.getUsername(), owner.getRole());
+    }
+
+    @AfterAll
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("AI 추천 일괄 생성: 제한된 동시 호출, 요청 순서대로 항목별 성공/실패 반환, 성공 항목만 저장")
+    void createAiSuggestions() throws InterruptedException {
+        List<String> requestTexts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            requestTexts.add("메뉴 " + i + " 설명");
+        }
+        requestTexts.add(" ");
+        requestTexts.add("실패하는 메뉴 설명");
+
+        Map<String, Object> response = post(Map.of("storeId", store.getId(), "requestTexts", requestTexts));
+
+        assertEquals(200, response.get("status"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) response.get("data");
+        assertEquals(6, data.get("succeeded"));
+        assertEquals(2, data.get("failed"));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results = (List<Map<String, Object>>) data.get("results");
+        assertEquals(requestTexts.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get("index"));
+            assertEquals(requestTexts.get(i), results.get(i).get("requestText"));
+        }
+        assertEquals(200, results.get(0).get("status"));
+        assertNotNull(results.get(0).get("suggestion"));
+        assertEquals(400, results.get(6).get("status"));
+        assertEquals(500, results.get(7).get("status"));
+        assertNull(results.get(7).get("suggestion"));
+
+        assertTrue(maxInFlight.get() <= BATCH_CONCURRENCY, "max in flight: " + maxInFlight.get());
+        // 저장은 GeminiAuditWriter 가 비동기로 처리
+        assertTrue(auditWriter.flush(Duration.ofSeconds(10)));
+        assertEquals(6, geminiRepository.findAll().stream()
+                .filter(gemini -> gemini.getStore().getId().equals(store.getId()))
+                .count());
+    }
+
+    @Test
+    @DisplayName("AI 추천 일괄 생성: 최대 질문 수를 넘으면 400")
+    void createAiSuggestions_tooManyItems() {
+        List<String> requestTexts = new ArrayList<>();
+        for (int i = 0; i < 51; i++) {
+            requestTexts.add("메뉴 " + i);
+        }
+
+        Map<String, Object> response = post(Map.of("storeId", store.getId(), "requestTexts", requestTexts));
+
+        assertEquals(400, response.get("status"));
+    }
+
+    private Map<String, Object> post(Map<String, Object> body) {
+        return WebClient.create()
+                .post()
+                .uri("http://127.0.0.1:" + port + "/api/gemini/ai-suggestion/batch")
+                // 로그인 응답의 token 값("Bearer ..." 포함)에 다시 Bearer 를 붙여 보내는 현재 클라이언트 방식
+                .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchangeToMono(response -> response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                }))
+                .block(Duration.ofSeconds(30));
+    }
+
+    // 동시 요청 수를 기록하며 200ms 뒤 응답하는 stub 서버 ("실패" 가 포함된 질문은 400)
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/gemini", exchange -> {
+                String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+
+                int status = requestBody.contains("실패") ? 400 : 200;
+                byte[] response = (status == 200
+                        ? "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"메뉴 설명입니다.\"}]}}]}"
+                        : "{\"error\":{\"message\":\"bad request\"}}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, response.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiCircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // 최근 4건 중 50% 이상 실패 시 open, 100ms 후 시험 호출 2건
+    private final GeminiCircuitBreaker circuitBreaker =
+            new GeminiCircuitBreaker(meterRegistry, 4, 4, 50, Duration.ofMillis(100), 2);
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 open, open 중에는 호출하지 않음")
+    void opensAtFailureRate() {
+        succeed();
+        succeed();
+        fail();
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, circuitBreaker.getState()); // 최소 호출 수 미만
+        fail();
+
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(GeminiServiceUnavailableException.class, this::succeed);
+        assertEquals(4, calls.get());
+        assertEquals(1.0, meterRegistry.get("gemini.circuit.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("gemini.circuit.state").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    @DisplayName("실패로 세지 않는 오류(4xx 등)는 실패율에 포함하지 않음")
+    void ignoresNonFailureErrors() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalArgumentException.class, () -> call(Mono.error(new IllegalArgumentException("4xx"))));
+        }
+        succeed();
+        succeed();
+
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("대기 후 half-open 시험 호출이 모두 성공하면 close")
+    void halfOpenClosesAfterSuccessfulProbes() throws InterruptedException {
+        open();
+        Thread.sleep(150);
+
+        succeed();
+        assertEquals(GeminiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        succeed();
+
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1.0, meterRegistry.get("gemini.circuit.transitions").tag("from", "half_open").tag("to", "closed").counter().count());
+    }
+
+    @Test
+    @DisplayName("half-open 시험 호출이 실패하면 다시 open")
+    void halfOpenReopensOnFailure() throws InterruptedException {
+        open();
+        Thread.sleep(150);
+
+        fail();
+
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2.0, meterRegistry.get("gemini.circuit.transitions").tag("to", "open").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private void succeed() {
+        call(Mono.just("ok"));
+    }
+
+    private void fail() {
+        assertThrows(IllegalStateException.class, () -> call(Mono.error(new IllegalStateException("5xx"))));
+    }
+
+    private String call(Mono<String> result) {
+        return circuitBreaker.execute(() -> {
+            calls.incrementAndGet();
+            return result;
+        }, IllegalStateException.class::isInstance).block();
+    }
+}
@@ -0,0 +1,225 @@
+package com.spring.delivery.infra.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.infra.exception.GeminiApiException;
+import com.spring.delivery.infra.exception.GeminiServiceUnavailableException;
+import com.spring.delivery.infra.exception.GeminiTimeoutException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiClientTest {
+
+    private static final String GEMINI_RESPONSE =
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"김치찌개를 추천합니다.\"}]}}]}";
+
+    static final List<String> STREAM_CHUNKS = List.of(
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"김치찌개를 \"}]}}]}",
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"추천\"}]}}]}",
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"합니다.\"}]}}]}",
+            "{\"candidates\":[{\"finishReason\":\"STOP\"}]}"
+    );
+
+    private final AtomicInteger requests = new AtomicInteger();
+    // n 번째 요청(1부터)에 돌려줄 상태 코드
+    private volatile IntUnaryOperator statusByRequest = n -> 200;
+    private volatile long delayMillis;
+
+    private HttpServer stubServer;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/gemini", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            int status = statusByRequest.applyAsInt(requests.incrementAndGet());
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = (status == 200 ? GEMINI_RESPONSE : "{\"error\":\"stub\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        // 200ms 간격으로 SSE 조각을 보내는 스트리밍 응답 (마지막 조각은 텍스트 없이 종료 사유만)
+        stubServer.createContext("/gemini-stream", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (String chunk : STREAM_CHUNKS) {
+                    outputStream.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    outputStream.flush();
+                    Thread.sleep(200);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @DisplayName("정상 응답에서 텍스트 추출")
+    void generate_success() {
+        assertEquals("김치찌개를 추천합니다.", client(10).generate("메뉴 추천").block());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도 후 성공")
+    void generate_retriesServerError() {
+        statusByRequest = n -> n <= 2 ? 503 : 200;
+
+        assertEquals("김치찌개를 추천합니다.", client(10).generate("메뉴 추천").block());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    @DisplayName("5xx 가 계속되면 재시도 후 503 예외")
+    void generate_serverErrorExhausted() {
+        statusByRequest = n -> 500;
+
+        assertThrows(GeminiServiceUnavailableException.class, () -> client(10).generate("메뉴 추천").block());
+        assertEquals(3, requests.get()); // 최초 1회 + 재시도 2회
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않음")
+    void generate_clientErrorNotRetried() {
+        statusByRequest = n -> 400;
+
+        assertThrows(GeminiApiException.class, () -> client(10).generate("메뉴 추천").block());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃은 504 예외")
+    void generate_responseTimeout() {
+        delayMillis = 1_000;
+
+        assertThrows(GeminiTimeoutException.class, () -> client(10).generate("메뉴 추천").block());
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 바로 503 예외")
+    void generate_bulkheadRejects() {
+        delayMillis = 300;
+        GeminiClient client = client(1);
+
+        Disposable inFlight = client.generate("첫 번째 요청").subscribe();
+        try {
+            assertThrows(GeminiServiceUnavailableException.class, () -> client.generate("두 번째 요청").block());
+        } finally {
+            inFlight.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 조각이 도착하는 대로 전달")
+    void stream_emitsChunksAsTheyArrive() {
+        long start = System.nanoTime();
+        List<Long> arrivals = new ArrayList<>();
+
+        List<String> chunks = client(10).stream("메뉴 추천")
+                .doOnNext(chunk -> arrivals.add((System.nanoTime() - start) / 1_000_000))
+                .collectList()
+                .block();
+
+        assertEquals(List.of("김치찌개를 ", "추천", "합니다."), chunks);
+        // 첫 조각은 전체 스트림(약 800ms)이 끝나기 전에 도착
+        assertTrue(arrivals.get(2) - arrivals.get(0) >= 300, "arrivals: " + arrivals);
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 circuit open 후 stub 을 호출하지 않고 바로 실패, 대기 후 시험 호출 성공 시 close")
+    void generate_circuitOpensOnServerErrors() throws InterruptedException {
+        statusByRequest = n -> 500;
+        GeminiCircuitBreaker circuitBreaker = circuitBreaker();
+        GeminiClient client = client(10, circuitBreaker);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(GeminiServiceUnavailableException.class, () -> client.generate("메뉴 추천").block());
+        }
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        int requestsWhenOpened = requests.get();
+
+        long start = System.nanoTime();
+        assertThrows(GeminiServiceUnavailableException.class, () -> client.generate("메뉴 추천").block());
+        assertTrue(System.nanoTime() - start < 100_000_000L);
+        assertEquals(requestsWhenOpened, requests.get());
+
+        statusByRequest = n -> 200;
+        Thread.sleep(300);
+        assertEquals("김치찌개를 추천합니다.", client.generate("메뉴 추천").block());
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("응답 지연(타임아웃)이 이어지면 circuit open")
+    void generate_circuitOpensOnLatency() {
+        delayMillis = 1_000;
+        GeminiCircuitBreaker circuitBreaker = circuitBreaker();
+        GeminiClient client = client(10, circuitBreaker);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(GeminiTimeoutException.class, () -> client.generate("메뉴 추천").block());
+        }
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(GeminiServiceUnavailableException.class, () -> client.generate("메뉴 추천").block());
+        assertEquals(4, requests.get());
+    }
+
+    // 최근 4건 중 50% 이상 실패 시 open, 200ms 후 시험 호출 1건
+    private GeminiCircuitBreaker circuitBreaker() {
+        return new GeminiCircuitBreaker(new SimpleMeterRegistry(), 4, 4, 50, Duration.ofMillis(200), 1);
+    }
+
+    private GeminiClient client(int maxConcurrentCalls) {
+        return client(maxConcurrentCalls, new GeminiCircuitBreaker(new SimpleMeterRegistry(), 20, 20, 100, Duration.ofSeconds(30), 1));
+    }
+
+    private GeminiClient client(int maxConcurrentCalls, GeminiCircuitBreaker circuitBreaker) {
+        GeminiClientConfig config = new GeminiClientConfig();
+        connectionProvider = config.geminiConnectionProvider(10, 10, Duration.ofSeconds(1), Duration.ofSeconds(30));
+        String url = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/gemini?key=";
+        String streamUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/gemini-stream?alt=sse&key=";
+        WebClient webClient = config.geminiWebClient(connectionProvider, url, Duration.ofSeconds(1), Duration.ofMillis(500), true);
+
+        return new GeminiClient(webClient, new ObjectMapper(),
+                new GeminiBulkhead(new SimpleMeterRegistry(), maxConcurrentCalls), circuitBreaker,
+                url, "test-key", streamUrl, Duration.ofSeconds(5), 2, Duration.ofMillis(10));
+    }
+}
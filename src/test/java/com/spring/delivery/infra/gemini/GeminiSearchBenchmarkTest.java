@@ -0,0 +1,157 @@
+package com.spring.delivery.infra.gemini;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * AI 추천 내역 응답 텍스트 검색: LIKE vs n-gram 인덱스 (./gradlew benchmark 로 실행)
+ * H2 인메모리 DB 기준이라 절대 수치보다 두 방식의 차이를 보는 용도
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GeminiSearchBenchmarkTest {
+
+    // -Dbenchmark.gemini.count=... 로 조정 가능 (기본 100만 건)
+    private static final int SUGGESTION_COUNT = Integer.getInteger("benchmark.gemini.count", 1_000_000);
+    // 메뉴/맛 종류 수와 서로소여야 가게마다 모든 조합이 고르게 섞임
+    private static final int STORE_COUNT = 97;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 10;
+    private static final List<String> QUERIES = List.of("김치찌개", "담백한 김치찌개", "추천 #424242", "맵게");
+
+    @Autowired
+    private GeminiRepository geminiRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> storeIds = new ArrayList<>();
+
+    private LikeGeminiSearchEngine likeEngine;
+    private NgramGeminiSearchEngine ngramEngine;
+
+    @BeforeAll
+    void setUp() {
+        insertStores();
+        insertSuggestions();
+
+        likeEngine = new LikeGeminiSearchEngine(geminiRepository);
+        ngramEngine = new NgramGeminiSearchEngine(geminiRepository);
+
+        long start = System.nanoTime();
+        ngramEngine.rebuild();
+        System.out.printf("[benchmark] n-gram index rebuild (%d suggestions): %d ms%n",
+                SUGGESTION_COUNT, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM p_gemini WHERE request_text LIKE 'bench %'");
+        jdbcTemplate.update("DELETE FROM p_store WHERE name LIKE 'bench %'");
+    }
+
+    @Test
+    @DisplayName("100만 건 AI 추천 검색: LIKE vs n-gram (전체 / 가게별)")
+    void compareSearchEngines() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        for (UUID storeId : new UUID[]{null, storeIds.get(42)}) {
+            for (String query : QUERIES) {
+                Page<Gemini> like = likeEngine.search(storeId, query, pageable);
+                Page<Gemini> ngram = ngramEngine.search(storeId, query, pageable);
+
+                // 같은 페이징 결과를 반환하는지 먼저 확인
+                assertEquals(like.getTotalElements(), ngram.getTotalElements(), query);
+                assertEquals(ids(like), ids(ngram), query);
+
+                long likeMicros = measure(() -> likeEngine.search(storeId, query, pageable));
+                long ngramMicros = measure(() -> ngramEngine.search(storeId, query, pageable));
+
+                System.out.printf("[benchmark] scope=%-5s query=%-16s total=%7d like=%9d us ngram=%8d us%n",
+                        storeId == null ? "all" : "store", "'" + query + "'", like.getTotalElements(), likeMicros, ngramMicros);
+            }
+        }
+    }
+
+    // 워밍업 후 평균 실행 시간 (마이크로초)
+    private long measure(Supplier<Page<Gemini>> search) {
+        for (int i = 0; i < 2; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private List<UUID> ids(Page<Gemini> page) {
+        return page.getContent().stream().map(Gemini::getId).toList();
+    }
+
+    private void insertStores() {
+        List<Object[]> batch = new ArrayList<>(STORE_COUNT);
+        for (int i = 0; i < STORE_COUNT; i++) {
+            UUID storeId = UUID.randomUUID();
+            storeIds.add(storeId);
+            batch.add(new Object[]{storeId, "bench gemini store " + i, "address " + i, "010-0000-0000", true});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO p_store (id, name, address, tel, open_status) VALUES (?, ?, ?, ?, ?)",
+                batch);
+    }
+
+    private void insertSuggestions() {
+        String[] menus = {"김치찌개", "된장찌개", "제육볶음", "불고기", "비빔밥", "냉면", "떡볶이", "돈까스"};
+        String[] tastes = {"담백한", "매콤한", "달콤한", "고소한", "얼큰한"};
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < SUGGESTION_COUNT; i++) {
+            // 생성일은 서로 달라야 두 방식의 정렬 결과가 같아짐
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            String menu = menus[i % menus.length];
+            String taste = tastes[i % tastes.length];
+            String spicy = i % 7 == 0 ? " 맵게 조리해 드려요." : "";
+            batch.add(new Object[]{
+                    UUID.randomUUID(),
+                    "bench " + menu + " 메뉴 설명",
+                    taste + " " + menu + "을(를) 추천합니다." + spicy + " 추천 #" + i,
+                    storeIds.get(i % STORE_COUNT),
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO p_gemini (id, request_text, response_text, store_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,90 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.GeminiChangedEvent;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "gemini.search.mode=ngram")
+class GeminiSearchTest {
+
+    @Autowired
+    private GeminiService geminiService;
+
+    @Autowired
+    private GeminiSearchEngine geminiSearchEngine;
+
+    @Autowired
+    private GeminiRepository geminiRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("n-gram 검색 인덱스는 추천 내역 저장/삭제를 반영하고 기존 페이징 응답 형식을 유지")
+    void searchSuggestions_followsInsertAndSoftDelete() {
+        assertInstanceOf(NgramGeminiSearchEngine.class, geminiSearchEngine);
+
+        User master = userRepository.save(User.createUser("geminiSearchMaster", "search-master@example.com", "password", Role.MASTER));
+        UserDetailsImpl userDetails = new UserDetailsImpl(master);
+        Store store = storeRepository.save(
+                Store.of("gemini search store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, master));
+
+        Gemini gemini = geminiRepository.save(Gemini.of("메뉴 설명", "바삭한 해물파전을 추천합니다.", store));
+        eventPublisher.publishEvent(new GeminiChangedEvent(gemini.getId()));
+
+        Map<String, Object> found = search(userDetails, store, "해물파전");
+        assertEquals(1L, found.get("totals"));
+        assertEquals(1, found.get("currentPage"));
+        assertEquals(gemini.getId(), ((GeminiResponseDto) ((List<?>) found.get("suggestions")).get(0)).getId());
+
+        // 허용되지 않은 정렬 기준은 createdAt 으로 대체
+        ApiResponseDto<Map<String, Object>> unknownSort =
+                geminiService.searchSuggestions(userDetails, store.getId(), "해물파전", 1, 10, "store.owner.password", "desc");
+        assertEquals(200, unknownSort.getStatus());
+        assertEquals(1L, unknownSort.getData().get("totals"));
+        ApiResponseDto<Map<String, Object>> unknownSortNoKeyword =
+                geminiService.searchSuggestions(userDetails, store.getId(), "", 1, 10, "store.owner.password", "desc");
+        assertEquals(200, unknownSortNoKeyword.getStatus());
+        assertEquals(1L, unknownSortNoKeyword.getData().get("totals"));
+
+        ApiResponseDto<Void> deleted = geminiService.deleteAiSuggestion(gemini.getId(), userDetails);
+        assertEquals(200, deleted.getStatus());
+
+        Map<String, Object> afterDelete = search(userDetails, store, "해물파전");
+        assertEquals(0L, afterDelete.get("totals"));
+        assertTrue(((List<?>) afterDelete.get("suggestions")).isEmpty());
+    }
+
+    private Map<String, Object> search(UserDetailsImpl userDetails, Store store, String keyword) {
+        ApiResponseDto<Map<String, Object>> response =
+                geminiService.searchSuggestions(userDetails, store.getId(), keyword, 1, 10, "createdAt", "desc");
+        assertEquals(200, response.getStatus());
+        return response.getData();
+    }
+}
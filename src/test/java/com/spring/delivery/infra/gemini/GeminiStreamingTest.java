@@ -0,0 +1,138 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.util.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GeminiStreamingTest {
+
+    private static final HttpServer stubServer = startStubServer();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        registry.add("gemini.api.url", () -> baseUrl + "/gemini?key=");
+        registry.add("gemini.api.stream-url", () -> baseUrl + "/gemini-stream?alt=sse&key=");
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private GeminiRepository geminiRepository;
+
+    @Autowired
+    private GeminiAuditWriter auditWriter;
+
+    private Store store;
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        User owner = userRepository.save(User.createUser("streamOwner", "stream@example.com", "password", Role.OWNER));
+        store = storeRepository.save(Store.of("stream store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        token = jwtUtil.createToken(owner.getUsername(), owner.getRole());
+    }
+
+    @AfterAll
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("AI 추천 스트리밍: 조각(chunk) 이벤트 후 저장 결과(done) 이벤트, 합친 텍스트 저장")
+    void streamAiSuggestion() throws InterruptedException {
+        List<ServerSentEvent<Map<String, Object>>> events = WebClient.create()
+                .post()
+                .uri("http://127.0.0.1:" + port + "/api/gemini/ai-suggestion/stream")
+                // 로그인 응답의 token 값("Bearer ..." 포함)에 다시 Bearer 를 붙여 보내는 현재 클라이언트 방식
+                .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(Map.of("requestText", "점심 메뉴 추천", "storeId", store.getId()))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {
+                })
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        assertNotNull(events);
+        assertEquals(List.of("chunk", "chunk", "chunk", "done"), events.stream().map(ServerSentEvent::event).toList());
+        assertEquals("김치찌개를 ", events.get(0).data().get("text"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> saved = (Map<String, Object>) events.get(3).data().get("data");
+        assertEquals("김치찌개를 추천합니다.", saved.get("responseText"));
+        assertEquals("streamOwner", saved.get("createdBy"));
+        // 저장은 GeminiAuditWriter 가 비동기로 처리
+        assertTrue(auditWriter.flush(Duration.ofSeconds(10)));
+        assertTrue(geminiRepository.findAll().stream()
+                .anyMatch(gemini -> gemini.getResponseText().equals("김치찌개를 추천합니다.")));
+    }
+
+    // GeminiClientTest 와 같은 SSE 조각을 200ms 간격으로 보내는 stub 서버
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/gemini-stream", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    for (String chunk : GeminiClientTest.STREAM_CHUNKS) {
+                        outputStream.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                        outputStream.flush();
+                        Thread.sleep(200);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.spring.delivery.infra.gemini;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiSuggestionCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final UUID storeId = UUID.randomUUID();
+
+    // 호출 횟수를 세고 잠시 뒤 응답하는 Gemini 호출 대역
+    private final Supplier<Mono<String>> loader = () -> Mono.defer(() -> {
+        int call = calls.incrementAndGet();
+        return Mono.delay(Duration.ofMillis(200)).map(tick -> "추천 " + call);
+    });
+
+    @Test
+    @DisplayName("같은 가게의 같은 질문(공백/대소문자 무시)은 한 번만 호출")
+    void get_cachesNormalizedPrompt() {
+        GeminiSuggestionCache cache = cache(true);
+
+        String first = cache.get(storeId, "Menu  추천", loader).block();
+        String second = cache.get(storeId, " menu 추천 ", loader).block();
+
+        assertEquals(first, second);
+        assertEquals(1, calls.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "gemini-suggestion").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("gemini.suggestion.saved").timer().count());
+    }
+
+    @Test
+    @DisplayName("가게가 다르면 따로 호출")
+    void get_separatesStores() {
+        GeminiSuggestionCache cache = cache(true);
+
+        cache.get(storeId, "메뉴 추천", loader).block();
+        cache.get(UUID.randomUUID(), "메뉴 추천", loader).block();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 질문은 진행 중인 호출 하나를 공유")
+    void get_coalescesConcurrentPrompts() {
+        GeminiSuggestionCache cache = cache(true);
+
+        List<String> responses = Flux.range(0, 10)
+                .flatMap(i -> cache.get(storeId, "메뉴 추천", loader))
+                .collectList()
+                .block();
+
+        assertEquals(10, responses.size());
+        assertTrue(responses.stream().allMatch("추천 1"::equals));
+        assertEquals(1, calls.get());
+        assertEquals(9.0, meterRegistry.get("gemini.suggestion.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 캐시하지 않음")
+    void get_doesNotCacheFailure() {
+        GeminiSuggestionCache cache = cache(true);
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get(storeId, "메뉴 추천", () -> Mono.error(new IllegalStateException("upstream"))).block());
+        String response = cache.get(storeId, "메뉴 추천", loader).block();
+
+        assertEquals("추천 1", response);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 호출")
+    void get_disabled() {
+        GeminiSuggestionCache cache = cache(false);
+
+        cache.get(storeId, "메뉴 추천", loader).block();
+        cache.get(storeId, "메뉴 추천", loader).block();
+
+        assertEquals(2, calls.get());
+    }
+
+    private GeminiSuggestionCache cache(boolean enabled) {
+        return new GeminiSuggestionCache(meterRegistry, enabled, 100, Duration.ofMinutes(1));
+    }
+}
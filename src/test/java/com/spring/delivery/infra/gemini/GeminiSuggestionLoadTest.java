@@ -0,0 +1,177 @@
+package com.spring.delivery.infra.gemini;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.util.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AI 추천 생성 API 부하 테스트 (./gradlew benchmark 로 실행)
+ * Gemini 대신 3초 지연 stub 서버를 띄우고, 요청 스레드(10개)보다 많은 동시 요청을 보내 처리량을 측정
+ * 요청 스레드에서 block() 하던 구조라면 요청 스레드 수만큼씩 3초 단위로 처리된다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "server.tomcat.threads.max=10",
+        "spring.datasource.hikari.maximum-pool-size=5",
+        // 동시 호출 제한/커넥션 풀이 아닌 요청 스레드 점유 여부만 측정
+        "gemini.client.max-concurrent-calls=200",
+        "gemini.client.max-connections=200"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GeminiSuggestionLoadTest {
+
+    private static final long UPSTREAM_DELAY_MILLIS = 3_000;
+    private static final int CONCURRENT_REQUESTS = 100;
+    private static final String GEMINI_RESPONSE =
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"김치찌개를 추천합니다.\"}]}}]}";
+
+    private static final HttpServer stubServer = startStubServer();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.url", () -> "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/gemini?key=");
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private GeminiRepository geminiRepository;
+
+    @Autowired
+    private GeminiAuditWriter auditWriter;
+
+    private Store store;
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        User owner = userRepository.save(User.createUser("geminiOwner", "gemini@example.com", "password", Role.OWNER));
+        store = storeRepository.save(Store.of("gemini store", "address", "010-0000-0000", true, LocalTime.NOON, LocalTime.MIDNIGHT, owner));
+        token = jwtUtil.createToken(owner.getUsername(), owner.getRole());
+
+        // Reactor Netty 초기화(이벤트 루프, 리졸버 등)가 첫 요청의 타임아웃에 포함되지 않도록 미리 호출
+        WebClient.create().get()
+                .uri("http://127.0.0.1:" + stubServer.getAddress().getPort() + "/warmup")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+    }
+
+    @AfterAll
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Gemini 응답 지연(3초) 중 요청 스레드 수보다 많은 동시 요청 처리")
+    void concurrentSuggestions() throws InterruptedException {
+        long before = geminiRepository.count();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            // 응답 캐시/호출 공유에 걸리지 않도록 요청마다 다른 질문
+            String body = "{\"requestText\":\"점심 메뉴 추천 " + i + "\",\"storeId\":\"" + store.getId() + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/gemini/ai-suggestion"))
+                    .header("Content-Type", "application/json")
+                    // 로그인 응답의 token 값("Bearer ..." 포함)에 다시 Bearer 를 붙여 보내는 현재 클라이언트 방식
+                    .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + token)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        long succeeded = responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("[benchmark] ai-suggestion with %d ms upstream delay: %d requests, %d ok, %d ms, %.1f req/s%n",
+                UPSTREAM_DELAY_MILLIS, CONCURRENT_REQUESTS, succeeded, elapsedMillis, succeeded * 1000.0 / elapsedMillis);
+
+        assertEquals(CONCURRENT_REQUESTS, succeeded);
+        // 저장은 GeminiAuditWriter 가 비동기로 처리
+        assertTrue(auditWriter.flush(Duration.ofSeconds(10)));
+        assertEquals(before + CONCURRENT_REQUESTS, geminiRepository.count());
+        // 요청 스레드 10개로 block() 했다면 최소 (100 / 10) * 3초 = 30초
+        assertTrue(elapsedMillis < UPSTREAM_DELAY_MILLIS * 3, "elapsed: " + elapsedMillis + " ms");
+    }
+
+    // 고정 지연 후 Gemini 형식의 응답을 돌려주는 stub 서버
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/warmup", exchange -> {
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.createContext("/gemini", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(UPSTREAM_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] response = GEMINI_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}